@@ -0,0 +1,133 @@
+package com.example.doruked.benchmarks;
+
+import com.example.doruked.ArrayUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the search and fill methods of {@link ArrayUtil} against naive loops (the {@code baseline}
+ * benchmarks). Searches look for a value that only occurs in the last element, so the whole array is scanned.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayUtilBenchmark {
+
+    @Param({"1024", "16384"})
+    public int size;
+
+    private int[] ints;
+    private long[] longs;
+    private byte[] bytes;
+    private byte[] pattern;
+    private int[] fillPattern;
+    private int[] destination;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ints = new int[size];
+        longs = new long[size];
+        bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            ints[i] = i % 1000;
+            longs[i] = i % 1000;
+            bytes[i] = (byte) ('a' + i % 7);
+        }
+        ints[size - 1] = -1;
+        longs[size - 1] = -1;
+        bytes[size - 1] = 'z';
+        pattern = Arrays.copyOfRange(bytes, size - 8, size);
+        fillPattern = new int[]{1, 2, 3, 4, 5, 6, 7};
+        destination = new int[size];
+    }
+
+//searching
+
+    @Benchmark
+    public int indexOfInt() {
+        return ArrayUtil.indexOf(ints, -1);
+    }
+
+    @Benchmark
+    public int indexOfIntBaseline() {
+        for (int i = 0; i < ints.length; i++) {
+            if (ints[i] == -1) return i;
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int indexOfLong() {
+        return ArrayUtil.indexOf(longs, -1L);
+    }
+
+    @Benchmark
+    public int indexOfLongBaseline() {
+        for (int i = 0; i < longs.length; i++) {
+            if (longs[i] == -1L) return i;
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int indexOfByte() {
+        return ArrayUtil.indexOf(bytes, (byte) 'z');
+    }
+
+    @Benchmark
+    public int indexOfByteBaseline() {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == 'z') return i;
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int indexOfPattern() {
+        return ArrayUtil.indexOf(bytes, pattern);
+    }
+
+    @Benchmark
+    public int indexOfPatternBaseline() {
+        outer:
+        for (int i = 0; i <= bytes.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (bytes[i + j] != pattern[j]) continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+//filling
+
+    @Benchmark
+    public int[] fill() {
+        ArrayUtil.fill(destination, fillPattern);
+        return destination;
+    }
+
+    @Benchmark
+    public int[] fillBaseline() {
+        for (int i = 0; i < destination.length; i++) {
+            destination[i] = fillPattern[i % fillPattern.length];
+        }
+        return destination;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.doruked.benchmarks;
+
+import com.example.doruked.node.mynodes.DeepNode;
+import com.example.doruked.node.mynodes.MyNode;
+import com.example.doruked.node.mynodes.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+/**
+ * Compares {@link MyNode} and {@link DeepNode} on {@link Trees.Shape#CHAIN chains}, where every operation that
+ * begins by locating the head of the tree climbs the entire depth. Operations are invoked on the deepest node.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DeepChainBenchmark {
+
+    /** The type of node the chain consists of */
+    public enum Kind {
+        MY_NODE(MyNode::new),
+        DEEP_NODE(DeepNode::new);
+
+        private final IntFunction<Node<Integer>> factory;
+
+        Kind(IntFunction<Node<Integer>> factory) {
+            this.factory = factory;
+        }
+    }
+
+    @Param({"MY_NODE", "DEEP_NODE"})
+    public Kind kind;
+
+    @Param({"10000", "1000000"})
+    public int depth;
+
+    private Node<Integer> leaf;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Node<Integer>> nodes = Trees.build(Trees.Shape.CHAIN, depth, kind.factory);
+        leaf = nodes.get(depth - 1);
+    }
+
+    @Benchmark
+    public Node<Integer> getTreeHeadNode() {
+        return leaf.getTreeHeadNode();
+    }
+
+    @Benchmark
+    public boolean isInSameTree() {
+        return leaf.sameTree(leaf.getParentNode());
+    }
+
+    @Benchmark
+    public void forEach(Blackhole bh) {
+        leaf.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public Node<Integer> getNode() {
+        return leaf.getNode(e -> e == leaf);
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.doruked.benchmarks;
+
+import com.example.doruked.ListUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks the searching and remapping methods of {@link ListUtil} against the loops they replaced
+ * (the {@code baseline} benchmarks), on array backed and linked lists. Searches look for the last element.
+ * Chaining compares a {@link ListUtil.Pipeline} with chained {@code ListUtil} calls and a {@code Stream}.
+ * Run with {@code -prof gc} to compare the allocations of remapping and chaining.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListUtilBenchmark {
+
+    /** The type of list to operate on */
+    public enum Kind {
+        ARRAY,
+        LINKED
+    }
+
+    @Param({"ARRAY", "LINKED"})
+    public Kind kind;
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<Integer> list;
+    private Integer last;
+    private Predicate<Integer> isLast;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        list = (kind == Kind.ARRAY) ? new ArrayList<>() : new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        last = list.get(size - 1);
+        isLast = e -> e == last;
+    }
+
+//remapping
+
+    @Benchmark
+    public List<Integer> unbox() {
+        return ListUtil.unbox(list, e -> e + 1);
+    }
+
+    @Benchmark
+    public List<Integer> unboxBaseline() {
+        return baselineUnbox(list, e -> e + 1);
+    }
+
+//chaining
+
+    @Benchmark
+    public List<Integer> pipeline() {
+        return ListUtil.pipeline(list).filter(e -> (e & 1) == 0).map(e -> e + 1).limit(size / 4).toList();
+    }
+
+    @Benchmark
+    public List<Integer> pipelineChained() {
+        List<Integer> mapped = ListUtil.unbox(ListUtil.getIf(e -> (e & 1) == 0, list), e -> e + 1);
+        ListUtil.trimToIndex(mapped, size / 4 - 1, false);
+        return mapped;
+    }
+
+    @Benchmark
+    public List<Integer> pipelineStream() {
+        return list.stream().filter(e -> (e & 1) == 0).map(e -> e + 1).limit(size / 4).collect(Collectors.toList());
+    }
+
+//searching
+
+    @Benchmark
+    public int getIndex() {
+        return ListUtil.getIndex(list, isLast);
+    }
+
+    @Benchmark
+    public int getIndexBaseline() {
+        return baselineGetIndex(list, isLast);
+    }
+
+    @Benchmark
+    public int getReferenceIndex() {
+        return ListUtil.getReferenceIndex(list, last);
+    }
+
+    @Benchmark
+    public int getReferenceIndexBaseline() {
+        return baselineGetIndex(list, e -> e == last);
+    }
+
+//baselines
+
+    /** the previous implementation of {@link ListUtil#unbox}, which grows it's result */
+    private static <T, R> List<R> baselineUnbox(List<? extends T> values, Function<? super T, ? extends R> function) {
+        List<R> list = new ArrayList<>();
+        for (T t : values) {
+            list.add(function.apply(t));
+        }
+        return list;
+    }
+
+    /** the previous implementation of {@link ListUtil#getIndex}, which accesses every list by index */
+    private static <T> int baselineGetIndex(List<T> list, Predicate<T> pred) {
+        for (int i = 0; i < list.size(); i++) {
+            if (pred.test(list.get(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
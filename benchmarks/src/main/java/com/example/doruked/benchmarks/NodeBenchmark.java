@@ -0,0 +1,137 @@
+package com.example.doruked.benchmarks;
+
+import com.example.doruked.node.iterators.DiveIterator;
+import com.example.doruked.node.iterators.SweepIterator;
+import com.example.doruked.node.mynodes.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the operations of {@link com.example.doruked.node.mynodes.MyNode} over trees of different shapes.
+ * Run with {@code -prof gc} (or through {@link BenchmarkRunner}) to report the allocations of each operation.
+ * <p>
+ * Read-only operations share a tree that is built once per trial. Operations that modify the tree
+ * use {@link MutableTree}, which rebuilds the tree before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NodeBenchmark {
+
+    @Param({"CHAIN", "STAR", "KARY", "RANDOM"})
+    public Trees.Shape shape;
+
+    @Param({"100", "10000"})
+    public int size;
+
+    private Node<Integer> head;
+    private Integer last;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Node<Integer>> nodes = Trees.build(shape, size);
+        head = nodes.get(0);
+        last = size - 1;
+    }
+
+//construction
+
+    @Benchmark
+    public Node<Integer> construct() {
+        return Trees.build(shape, size).get(0);
+    }
+
+//iteration
+
+    @Benchmark
+    public void forEach(Blackhole bh) {
+        head.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void diveIterator(Blackhole bh) {
+        Iterator<Node<Integer>> it = new DiveIterator<>(head);
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+
+    /** @implNote {@link SweepIterator} is quadratic on deep trees, so expect {@code CHAIN} to dominate */
+    @Benchmark
+    public void sweepIterator(Blackhole bh) {
+        Iterator<Node<Integer>> it = SweepIterator.fromHead(head);
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    public List<Integer> getDescendingData() {
+        return head.getDescendingData();
+    }
+
+    @Benchmark
+    public List<Node<Integer>> getChildNodes() {
+        return head.getChildNodes();
+    }
+
+//search
+
+    /** searches for the last created node, which is the worst case for most shapes */
+    @Benchmark
+    public Node<Integer> getNode() {
+        return head.getNode(e -> last.equals(e.getData()));
+    }
+
+    @Benchmark
+    public List<Node<Integer>> getNodeIf() {
+        return head.getNodeIf(e -> (e.getData() & 1) == 0);
+    }
+
+//removal
+
+    @Benchmark
+    public Node<Integer> removeChild(MutableTree tree) {
+        return tree.head.removeChild(tree.head.getChildNodes().size() - 1);
+    }
+
+    @Benchmark
+    public Node<Integer> pluckNode(MutableTree tree) {
+        return tree.middle.pluckNode();
+    }
+
+//inner class
+
+    /** A tree that is rebuilt before every invocation, for benchmarks that modify it */
+    @State(Scope.Thread)
+    public static class MutableTree {
+
+        private Node<Integer> head;
+        private Node<Integer> middle;
+
+        @Setup(Level.Invocation)
+        public void setUp(NodeBenchmark benchmark) {
+            List<Node<Integer>> nodes = Trees.build(benchmark.shape, benchmark.size);
+            head = nodes.get(0);
+            middle = nodes.get(nodes.size() / 2);
+        }
+    }
+}
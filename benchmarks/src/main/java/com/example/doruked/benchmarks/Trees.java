@@ -0,0 +1,85 @@
+package com.example.doruked.benchmarks;
+
+import com.example.doruked.node.mynodes.MyNode;
+import com.example.doruked.node.mynodes.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Builds trees of a given {@link Shape} for benchmarking. Each node contains the order it was created in,
+ * starting at {@code 0} for the head.
+ */
+public final class Trees {
+
+    /** The amount of children given to each node of a {@link Shape#KARY} tree */
+    public static final int ARITY = 4;
+    private static final long SEED = 42L;
+
+    private Trees() {
+    }
+
+    /** The shapes of trees that can be built */
+    public enum Shape {
+        /** every node has one child. The depth is equal to the size */
+        CHAIN,
+        /** every node is a child of the head */
+        STAR,
+        /** a complete tree where each node has {@link #ARITY} children */
+        KARY,
+        /** each node is added to a random, previously created node */
+        RANDOM
+    }
+
+    /**
+     * Builds a tree of the specified {@code shape} that contains {@code size} nodes
+     *
+     * @param shape the shape of the tree
+     * @param size the amount of nodes to create
+     * @return the nodes of the tree, in the order they were created. The head is at index 0
+     */
+    public static List<Node<Integer>> build(Shape shape, int size) {
+        return build(shape, size, MyNode::new);
+    }
+
+    /**
+     * Builds a tree of the specified {@code shape} that contains {@code size} nodes, grown from
+     * a head created by the specified {@code factory}
+     *
+     * @param shape the shape of the tree
+     * @param size the amount of nodes to create
+     * @param factory creates the head from it's data
+     * @return the nodes of the tree, in the order they were created. The head is at index 0
+     */
+    public static List<Node<Integer>> build(Shape shape, int size, IntFunction<Node<Integer>> factory) {
+        List<Node<Integer>> nodes = new ArrayList<>(size);
+        Node<Integer> head = factory.apply(0);
+        nodes.add(head);
+        Random random = new Random(SEED);
+
+        for (int i = 1; i < size; i++) {
+            Node<Integer> parent;
+            switch (shape) {
+                case CHAIN:
+                    parent = nodes.get(i - 1);
+                    break;
+                case STAR:
+                    parent = head;
+                    break;
+                case KARY:
+                    parent = nodes.get((i - 1) / ARITY);
+                    break;
+                case RANDOM:
+                    parent = nodes.get(random.nextInt(i));
+                    break;
+                default:
+                    throw new AssertionError(shape);
+            }
+            //the added node is not the same object as the data given to it
+            nodes.add(parent.addChild(i));
+        }
+        return nodes;
+    }
+}
@@ -1,12 +1,37 @@
 package com.example.doruked;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * This class contains array utilities.
+ * <p>
+ * Random:
+ * Methods that do not accept a {@link Random} use {@link ThreadLocalRandom}, so concurrent callers
+ * do not contend over a shared source of randoms.
+ */
 public class ArrayUtil {
 
+    /** Samples at most {@code 1 / SPARSE_SAMPLE_RATIO} of an array are chosen by index, rather than by a scan */
+    private static final int SPARSE_SAMPLE_RATIO = 4;
 
-    //make a contains method
+    /** The amount of values compared per block by the {@code int} search */
+    private static final int BLOCK = 8;
+
+    /** Reads 8 elements of a {@code byte[]} as a single {@code long} */
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long LOW_BYTES = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+//Random
 
     /**
      * Returns a random member from the specified {@code values}. Each member should have
@@ -15,10 +40,11 @@ public class ArrayUtil {
      * If the array is modified during the operation, results may not be as expected.
      *
      * @param values the values to choose from
+     * @param <T> the type of values
      * @return a random member of the array or null if the array is empty
      * @throws NullPointerException if values is null
      */
-    public static Object randomMember(Object[] values) {
+    public static <T> T randomMember(T[] values) {
         return randomMember(values, ThreadLocalRandom.current());
     }
 
@@ -31,10 +57,11 @@ public class ArrayUtil {
      *
      * @param values the values to choose from
      * @param rnd    the source of randoms
+     * @param <T> the type of values
      * @return a random member of the array or null if the array is empty
      * @throws NullPointerException if values or source of randomness is null
      */
-    public static Object randomMember(Object[] values, Random rnd){
+    public static <T> T randomMember(T[] values, Random rnd){
         if(values == null || rnd == null) throw new NullPointerException();
         int size = values.length;
         if(size < 1) return null;
@@ -44,4 +71,580 @@ public class ArrayUtil {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns a member of the specified {@code values}, chosen with the probability described by the
+     * specified {@code weights}. The member at an index is chosen with the weight at that index.
+     *
+     * @param values the values to choose from
+     * @param weights the weights of the values
+     * @param <T> the type of values
+     * @return a random member of the array
+     * @throws NullPointerException if values or weights is null
+     * @throws IllegalArgumentException if the amount of weights is not the length of values
+     * @implNote costs {@code O(1)}
+     */
+    public static <T> T weightedMember(T[] values, AliasTable weights) {
+        return weightedMember(values, weights, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Behaves as {@link #weightedMember(Object[], AliasTable)}, using the specified {@link Random}
+     *
+     * @param values the values to choose from
+     * @param weights the weights of the values
+     * @param rnd the source of randoms
+     * @param <T> the type of values
+     * @return a random member of the array
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if the amount of weights is not the length of values
+     */
+    public static <T> T weightedMember(T[] values, AliasTable weights, Random rnd) {
+        if (values.length != weights.size()) {
+            throw new IllegalArgumentException("Weights: " + weights.size() + " do not match values: " + values.length);
+        }
+        return values[weights.next(rnd)];
+    }
+
+    /**
+     * Returns the specified {@code amount} of distinct members of the specified {@code values}, chosen
+     * at random. Each subset of that size has an equal chance of being chosen.
+     *
+     * @param values the values to choose from
+     * @param amount the amount of members to choose
+     * @param <T> the type of values
+     * @return a new array of the chosen members
+     * @throws NullPointerException if values is null
+     * @throws IllegalArgumentException if amount is negative or greater than the length of values
+     * @see #sampleInto(Object[], Object[], Random)
+     */
+    public static <T> T[] sample(T[] values, int amount) {
+        helperCheckAmount(amount, values.length);
+        return sampleInto(values, Arrays.copyOf(values, amount), ThreadLocalRandom.current());
+    }
+
+    /**
+     * Fills the specified {@code destination} with distinct members of the specified {@code values}, chosen
+     * at random. The amount chosen is the length of the destination. Each subset of that size has an
+     * equal chance of being chosen. The order of the chosen members is unspecified.
+     *
+     * @param values the values to choose from
+     * @param destination the array to fill
+     * @param rnd the source of randoms
+     * @param <T> the type of values
+     * @return the specified destination
+     * @throws NullPointerException if any argument is null
+     * @throws IllegalArgumentException if destination is longer than values
+     * @implNote small samples are chosen by Floyd's algorithm, which costs {@code O(k)} and a table of
+     * {@code O(k)} indices. Larger samples are chosen by a single scan of values (selection sampling), which
+     * costs {@code O(n)} and allocates nothing.
+     */
+    public static <T> T[] sampleInto(T[] values, T[] destination, Random rnd) {
+        Objects.requireNonNull(rnd);
+        helperCheckAmount(destination.length, values.length);
+        if (destination.length <= values.length / SPARSE_SAMPLE_RATIO) helperFloyd(values, destination, rnd);
+        else helperSelect(values, destination, rnd);
+        return destination;
+    }
+
+    /**
+     * Randomly permutes the specified {@code values}. Each permutation has an equal chance of occurring.
+     *
+     * @param values the values to shuffle
+     * @throws NullPointerException if values is null
+     */
+    public static void shuffle(Object[] values) {
+        shuffle(values, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Randomly permutes the specified {@code values} (Fisher-Yates), using the specified {@link Random}
+     *
+     * @param values the values to shuffle
+     * @param rnd the source of randoms
+     * @throws NullPointerException if values or source of randomness is null
+     */
+    public static void shuffle(Object[] values, Random rnd) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            Object swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    /**
+     * Randomly permutes the specified {@code values} (Fisher-Yates), using the specified {@link Random}
+     *
+     * @param values the values to shuffle
+     * @param rnd the source of randoms
+     * @throws NullPointerException if values or source of randomness is null
+     */
+    public static void shuffle(int[] values, Random rnd) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    /**
+     * Returns at most the specified {@code amount} of elements of the specified {@code source}, chosen at
+     * random. Each subset of that size has an equal chance of being chosen. If the source has fewer elements,
+     * all of them are returned.
+     *
+     * @param source the elements to choose from
+     * @param amount the amount of elements to choose
+     * @param <T> the type of elements
+     * @return a new list of the chosen elements
+     * @throws NullPointerException if source is null
+     * @throws IllegalArgumentException if amount is negative
+     * @see #reservoirSample(Iterator, Object[], Random)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> reservoirSample(Iterator<? extends T> source, int amount) {
+        helperCheckAmount(amount, Integer.MAX_VALUE);
+        T[] reservoir = (T[]) new Object[amount];
+        int filled = reservoirSample(source, reservoir, ThreadLocalRandom.current());
+        return new ArrayList<>(Arrays.asList(reservoir).subList(0, filled));
+    }
+
+    /**
+     * Fills the specified {@code reservoir} with elements of the specified {@code source}, chosen at random.
+     * The source is consumed, and may be of unknown length. Each subset of {@code reservoir.length} elements
+     * has an equal chance of being chosen.
+     *
+     * @param source the elements to choose from
+     * @param reservoir the array to fill
+     * @param rnd the source of randoms
+     * @param <T> the type of elements
+     * @return the amount of the reservoir that was filled, which is less than it's length if the source
+     * had fewer elements
+     * @throws NullPointerException if any argument is null
+     * @implNote uses Algorithm L, which computes how many elements to skip before the next replacement.
+     * So, after the reservoir is filled, randoms are generated {@code O(k log(n / k))} times rather than
+     * once per element.
+     */
+    public static <T> int reservoirSample(Iterator<? extends T> source, T[] reservoir, Random rnd) {
+        Objects.requireNonNull(rnd);
+        int k = reservoir.length;
+        int filled = 0;
+        while (filled < k && source.hasNext()) {
+            reservoir[filled++] = source.next();
+        }
+        if (filled < k || k == 0) return filled;
+
+        double w = Math.exp(Math.log(helperOpenUnit(rnd)) / k);
+        while (true) {
+            long skip = (long) Math.floor(Math.log(helperOpenUnit(rnd)) / Math.log1p(-w));
+            for (long i = 0; i < skip; i++) {
+                if (!source.hasNext()) return k;
+                source.next();
+            }
+            if (!source.hasNext()) return k;
+            reservoir[rnd.nextInt(k)] = source.next();
+            w *= Math.exp(Math.log(helperOpenUnit(rnd)) / k);
+        }
+    }
+
+//Search
+
+    /**
+     * Returns the index of the first of the specified {@code values} that equals the specified {@code target}
+     *
+     * @param values the values to search
+     * @param target the value to find
+     * @return the index of the target or {@code -1} if it is not found
+     * @throws NullPointerException if values is null
+     * @implNote values are compared in blocks of {@value #BLOCK}, without branching within a block. A block that
+     * contains the target is then searched one value at a time. So, a scan takes one exit branch per block,
+     * rather than one per value.
+     */
+    public static int indexOf(int[] values, int target) {
+        int i = 0;
+        int n = values.length;
+        for (; i <= n - BLOCK; i += BLOCK) {
+            boolean found = (values[i] == target) | (values[i + 1] == target)
+                    | (values[i + 2] == target) | (values[i + 3] == target)
+                    | (values[i + 4] == target) | (values[i + 5] == target)
+                    | (values[i + 6] == target) | (values[i + 7] == target);
+            if (found) break;
+        }
+        for (; i < n; i++) {
+            if (values[i] == target) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @param values the values to search
+     * @param target the value to find
+     * @return true if an element of values equals the target
+     * @throws NullPointerException if values is null
+     * @see #indexOf(int[], int)
+     */
+    public static boolean contains(int[] values, int target) {
+        return indexOf(values, target) != -1;
+    }
+
+    /**
+     * Returns the index of the first of the specified {@code values} that equals the specified {@code target}
+     *
+     * @param values the values to search
+     * @param target the value to find
+     * @return the index of the target or {@code -1} if it is not found
+     * @throws NullPointerException if values is null
+     * @implNote a plain loop. Unlike {@link #indexOf(int[], int)}, comparing {@code long} values in blocks
+     * was slower than this loop, which the compiler already unrolls.
+     */
+    public static int indexOf(long[] values, long target) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == target) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @param values the values to search
+     * @param target the value to find
+     * @return true if an element of values equals the target
+     * @throws NullPointerException if values is null
+     * @see #indexOf(long[], long)
+     */
+    public static boolean contains(long[] values, long target) {
+        return indexOf(values, target) != -1;
+    }
+
+    /**
+     * Returns the index of the first of the specified {@code values} that equals the specified {@code target}
+     *
+     * @param values the values to search
+     * @param target the value to find
+     * @return the index of the target or {@code -1} if it is not found
+     * @throws NullPointerException if values is null
+     * @see #indexOf(byte[], int, int, byte)
+     */
+    public static int indexOf(byte[] values, byte target) {
+        return indexOf(values, 0, values.length, target);
+    }
+
+    /**
+     * Returns the index of the first of the specified {@code values}, from the specified {@code from} (inclusive)
+     * to the specified {@code to} (exclusive), that equals the specified {@code target}
+     *
+     * @param values the values to search
+     * @param from the index to search from
+     * @param to the index to search to
+     * @param target the value to find
+     * @return the index of the target or {@code -1} if it is not found
+     * @throws NullPointerException if values is null
+     * @throws IndexOutOfBoundsException if the range is not within values
+     * @implNote values are read 8 at a time, as a {@code long}. The target is located within a {@code long} by
+     * a bitwise test for a zero byte, in place of 8 comparisons (SWAR, "SIMD within a register").
+     */
+    public static int indexOf(byte[] values, int from, int to, byte target) {
+        Objects.checkFromToIndex(from, to, values.length);
+        long pattern = (target & 0xFFL) * LOW_BYTES;
+        int i = from;
+        for (; i <= to - Long.BYTES; i += Long.BYTES) {
+            long word = (long) LONGS.get(values, i) ^ pattern; //a byte that equals the target is now zero
+            long zeros = (word - LOW_BYTES) & ~word & HIGH_BITS;
+            if (zeros != 0) return i + (Long.numberOfTrailingZeros(zeros) >>> 3);
+        }
+        for (; i < to; i++) {
+            if (values[i] == target) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first occurrence of the specified {@code pattern} in the specified {@code values}
+     *
+     * @param values the values to search
+     * @param pattern the sequence to find
+     * @return the index at which the pattern starts, or {@code -1} if it is not found. An empty pattern
+     * is found at {@code 0}.
+     * @throws NullPointerException if values or pattern is null
+     * @implNote candidates are located by {@link #indexOf(byte[], int, int, byte)}, then compared through
+     * {@link Arrays#equals(byte[], int, int, byte[], int, int)}, which is intrinsified as a vectorized mismatch
+     */
+    public static int indexOf(byte[] values, byte[] pattern) {
+        int length = pattern.length;
+        if (length == 0) return 0;
+        int last = values.length - length;
+        for (int i = 0; i <= last; i++) {
+            i = indexOf(values, i, last + 1, pattern[0]);
+            if (i == -1) return -1;
+            if (Arrays.equals(values, i, i + length, pattern, 0, length)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @param values the values to search
+     * @param target the value to find
+     * @return true if an element of values equals the target
+     * @throws NullPointerException if values is null
+     * @see #indexOf(byte[], int, int, byte)
+     */
+    public static boolean contains(byte[] values, byte target) {
+        return indexOf(values, 0, values.length, target) != -1;
+    }
+
+    /**
+     * @param values the values to search
+     * @param target the value to find
+     * @return true if an element of values is {@link Objects#equals(Object, Object) equal} to the target
+     * @throws NullPointerException if values is null
+     */
+    public static boolean contains(Object[] values, Object target) {
+        for (Object value : values) {
+            if (Objects.equals(value, target)) return true;
+        }
+        return false;
+    }
+
+//Fill and Copy
+
+    /**
+     * Fills the specified {@code destination} with repetitions of the specified {@code pattern}. The last
+     * repetition is cut short if the destination's length is not a multiple of the pattern's length.
+     *
+     * @param destination the array to fill
+     * @param pattern the values to repeat
+     * @throws NullPointerException if destination or pattern is null
+     * @throws IllegalArgumentException if pattern is empty, and destination is not
+     * @implNote the pattern is copied once, then the filled region is copied into the rest with
+     * {@link System#arraycopy}, doubling each time. So, {@code O(log(n / p))} bulk copies are made.
+     */
+    public static void fill(int[] destination, int[] pattern) {
+        int n = destination.length;
+        if (n == 0) return;
+        if (pattern.length == 0) throw new IllegalArgumentException("pattern is empty");
+
+        int filled = Math.min(pattern.length, n);
+        System.arraycopy(pattern, 0, destination, 0, filled);
+        while (filled < n) {
+            int length = Math.min(filled, n - filled);
+            System.arraycopy(destination, 0, destination, filled, length);
+            filled += length;
+        }
+    }
+
+    /**
+     * Fills the specified {@code destination} with every {@code stride}th element of the specified
+     * {@code source}, starting from the specified {@code from}. So, {@code destination[i]} is set to
+     * {@code source[from + i * stride]}.
+     *
+     * @param source the array to copy from
+     * @param from the index of the first element to copy
+     * @param stride the distance between copied elements
+     * @param destination the array to fill
+     * @return the specified destination
+     * @throws NullPointerException if source or destination is null
+     * @throws IllegalArgumentException if stride is less than 1
+     * @throws IndexOutOfBoundsException if an element to copy is not an index of source
+     */
+    public static int[] copyStrided(int[] source, int from, int stride, int[] destination) {
+        helperCheckStride(source.length, from, stride, destination.length);
+        for (int i = 0, j = from; i < destination.length; i++, j += stride) {
+            destination[i] = source[j];
+        }
+        return destination;
+    }
+
+    /**
+     * Fills the specified {@code destination} with repetitions of the specified {@code pattern}. The last
+     * repetition is cut short if the destination's length is not a multiple of the pattern's length.
+     *
+     * @param destination the array to fill
+     * @param pattern the values to repeat
+     * @throws NullPointerException if destination or pattern is null
+     * @throws IllegalArgumentException if pattern is empty, and destination is not
+     * @implNote the pattern is copied once, then the filled region is copied into the rest with
+     * {@link System#arraycopy}, doubling each time. So, {@code O(log(n / p))} bulk copies are made.
+     */
+    public static void fill(long[] destination, long[] pattern) {
+        int n = destination.length;
+        if (n == 0) return;
+        if (pattern.length == 0) throw new IllegalArgumentException("pattern is empty");
+
+        int filled = Math.min(pattern.length, n);
+        System.arraycopy(pattern, 0, destination, 0, filled);
+        while (filled < n) {
+            int length = Math.min(filled, n - filled);
+            System.arraycopy(destination, 0, destination, filled, length);
+            filled += length;
+        }
+    }
+
+    /**
+     * Fills the specified {@code destination} with every {@code stride}th element of the specified
+     * {@code source}, starting from the specified {@code from}. So, {@code destination[i]} is set to
+     * {@code source[from + i * stride]}.
+     *
+     * @param source the array to copy from
+     * @param from the index of the first element to copy
+     * @param stride the distance between copied elements
+     * @param destination the array to fill
+     * @return the specified destination
+     * @throws NullPointerException if source or destination is null
+     * @throws IllegalArgumentException if stride is less than 1
+     * @throws IndexOutOfBoundsException if an element to copy is not an index of source
+     */
+    public static long[] copyStrided(long[] source, int from, int stride, long[] destination) {
+        helperCheckStride(source.length, from, stride, destination.length);
+        for (int i = 0, j = from; i < destination.length; i++, j += stride) {
+            destination[i] = source[j];
+        }
+        return destination;
+    }
+
+//helpers
+
+    private static void helperCheckStride(int sourceLength, int from, int stride, int amount) {
+        if (stride < 1) throw new IllegalArgumentException("Provided stride: " + stride + " is less than 1");
+        if (amount == 0) return;
+        long last = from + (long) (amount - 1) * stride;
+        if (from < 0 || last >= sourceLength) {
+            throw new IndexOutOfBoundsException("Index: " + ((from < 0) ? from : last) + ", Size: " + sourceLength);
+        }
+    }
+
+    private static void helperCheckAmount(int amount, int available) {
+        if (amount < 0) throw new IllegalArgumentException("Provided amount: " + amount + " is less than 0");
+        if (amount > available) {
+            throw new IllegalArgumentException("Provided amount: " + amount + " is greater than " + available);
+        }
+    }
+
+    /** chooses each index with the probability of the amount still needed over the amount still available */
+    private static <T> void helperSelect(T[] values, T[] destination, Random rnd) {
+        int needed = destination.length;
+        for (int i = 0, chosen = 0; chosen < needed; i++) {
+            if (rnd.nextInt(values.length - i) < needed - chosen) {
+                destination[chosen++] = values[i];
+            }
+        }
+    }
+
+    /** for each of the last k indices j, chooses an index up to j, or j itself if that index was already chosen */
+    private static <T> void helperFloyd(T[] values, T[] destination, Random rnd) {
+        int k = destination.length;
+        int n = values.length;
+        int capacity = 2;
+        while (capacity < 2 * k) capacity <<= 1;
+        int[] chosen = new int[capacity];
+        Arrays.fill(chosen, -1);
+
+        int count = 0;
+        for (int j = n - k; j < n; j++) {
+            int t = rnd.nextInt(j + 1);
+            int pick = helperInsert(chosen, t) ? t : j;
+            if (pick == j) helperInsert(chosen, j);
+            destination[count++] = values[pick];
+        }
+    }
+
+    /** inserts the index into an open addressing table, returning false if it was already present */
+    private static boolean helperInsert(int[] table, int index) {
+        int mask = table.length - 1;
+        int h = index * 0x9E3779B9;
+        for (int slot = (h ^ (h >>> 16)) & mask; ; slot = (slot + 1) & mask) {
+            if (table[slot] == index) return false;
+            if (table[slot] == -1) {
+                table[slot] = index;
+                return true;
+            }
+        }
+    }
+
+    /** returns a random in {@code (0, 1]}, which has a finite logarithm */
+    private static double helperOpenUnit(Random rnd) {
+        return 1.0 - rnd.nextDouble();
+    }
+
+//inner class
+
+    /**
+     * A precomputed table for choosing an index with a probability proportional to it's weight, in {@code O(1)}.
+     * A table is built once, in {@code O(n)}, and may be reused by any amount of threads.
+     * <p>
+     * Implementation:
+     * Vose's alias method. Each index is given a column of equal height. A column is split between it's own index
+     * and (at most) one other index, it's alias. An index is chosen by choosing a column uniformly, then choosing
+     * between the column's index and it's alias.
+     */
+    public static final class AliasTable {
+        private final double[] probability;
+        private final int[] alias;
+
+        /**
+         * @param weights the weight of each index. A weight need not be normalized.
+         * @throws NullPointerException if weights is null
+         * @throws IllegalArgumentException if weights is empty, contains a negative or non finite weight,
+         * or does not contain a positive weight
+         */
+        public AliasTable(double[] weights) {
+            int n = weights.length;
+            if (n == 0) throw new IllegalArgumentException("weights is empty");
+            double sum = 0;
+            for (double weight : weights) {
+                if (!(weight >= 0) || Double.isInfinite(weight)) {
+                    throw new IllegalArgumentException("Provided weight: " + weight + " is not a finite, non negative number");
+                }
+                sum += weight;
+            }
+            if (!(sum > 0) || Double.isInfinite(sum)) throw new IllegalArgumentException("weights sum to: " + sum);
+
+            probability = new double[n];
+            alias = new int[n];
+            double[] scaled = new double[n];
+            int[] small = new int[n];
+            int[] large = new int[n];
+            int smallCount = 0;
+            int largeCount = 0;
+            for (int i = 0; i < n; i++) {
+                scaled[i] = weights[i] * n / sum;
+                if (scaled[i] < 1) small[smallCount++] = i;
+                else large[largeCount++] = i;
+            }
+            while (smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                probability[less] = scaled[less];
+                alias[less] = more;
+                scaled[more] = (scaled[more] + scaled[less]) - 1;
+                if (scaled[more] < 1) small[smallCount++] = more;
+                else large[largeCount++] = more;
+            }
+            //remaining columns are full, apart from rounding error
+            while (largeCount > 0) probability[large[--largeCount]] = 1;
+            while (smallCount > 0) probability[small[--smallCount]] = 1;
+        }
+
+        /**
+         * @return an index chosen with a probability proportional to it's weight
+         */
+        public int next() {
+            return next(ThreadLocalRandom.current());
+        }
+
+        /**
+         * @param rnd the source of randoms
+         * @return an index chosen with a probability proportional to it's weight
+         * @throws NullPointerException if source of randomness is null
+         */
+        public int next(Random rnd) {
+            int column = rnd.nextInt(probability.length);
+            return (rnd.nextDouble() < probability[column]) ? column : alias[column];
+        }
+
+        /**
+         * @return the amount of weights
+         */
+        public int size() {
+            return probability.length;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.doruked;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * A {@link java.util.List} that can locate an element by reference in {@code O(1)}. It suits lists that are
+ * searched by reference repeatedly, such as the siblings visited by a node iterator.
+ * <p>
+ * Index:
+ * Alongside it's elements, this list keeps a hash table from each element's identity to the index of it's first
+ * occurrence. The table is built by the first lookup, and is kept up to date while elements are appended. Any other
+ * modification discards the table, as it shifts the indices of the elements that follow it. So, the first lookup
+ * after such a modification costs {@code O(n)}, and later lookups cost {@code O(1)} until the list is modified again.
+ * <p>
+ * {@link ListUtil#getReferenceIndex(java.util.List, Object)}, {@link ListUtil#containsReference} and the
+ * {@code ListUtil} methods that retrieve an element next to a reference use the index of this list when given one.
+ *
+ * @param <E> the type of elements in this list
+ * @implNote this class is not thread safe. It permits {@code null} elements. The table uses open addressing with
+ * linear probing, and is kept at most half full.
+ */
+public class IdentityIndexedList<E> extends AbstractList<E> implements RandomAccess {
+
+    /** stands in for a {@code null} element, as an empty slot of the table is {@code null} */
+    private static final Object NULL_KEY = new Object();
+    private static final int MIN_TABLE_SIZE = 8;
+
+    private final ArrayList<E> elements;
+    /** the table, or null if it must be rebuilt before the next lookup */
+    private Object[] keys;
+    private int[] positions;
+    private int indexed;
+
+    public IdentityIndexedList() {
+        elements = new ArrayList<>();
+    }
+
+    /**
+     * Creates a list containing the elements of the specified {@code collection},
+     * in the order they are returned by it's iterator
+     *
+     * @param collection the elements to contain
+     * @throws NullPointerException if collection is null
+     */
+    public IdentityIndexedList(Collection<? extends E> collection) {
+        elements = new ArrayList<>(collection);
+    }
+
+//public operations
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = elements.set(index, element);
+        if (previous != element) keys = null;
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        int size = elements.size();
+        elements.add(index, element);
+        modCount++;
+        if (keys == null) return;
+        if (index == size) helperPut(element, index);
+        else keys = null;
+    }
+
+    @Override
+    public E remove(int index) {
+        E removed = elements.remove(index);
+        modCount++;
+        keys = null;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        elements.clear();
+        modCount++;
+        keys = null;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        boolean removed = elements.removeIf(filter);
+        if (removed) {
+            modCount++;
+            keys = null;
+        }
+        return removed;
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Returns the index of the first element that is referentially equal to the specified {@code reference}
+     *
+     * @param reference the reference to find the index of
+     * @return the index of the reference, or -1 if it is not contained
+     * @implNote costs {@code O(1)}, or {@code O(n)} if this list was modified by anything but an append since
+     * the last lookup
+     */
+    public int indexOfReference(Object reference) {
+        if (keys == null) helperRebuild();
+
+        Object key = (reference == null) ? NULL_KEY : reference;
+        int mask = keys.length - 1;
+        for (int slot = helperSlot(key, mask); keys[slot] != null; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) return positions[slot];
+        }
+        return -1;
+    }
+
+    /**
+     * @param reference the sought after reference
+     * @return true if an element is referentially equal to the specified reference
+     * @see #indexOfReference(Object)
+     */
+    public boolean containsReference(Object reference) {
+        return indexOfReference(reference) != -1;
+    }
+
+//protected
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        elements.subList(fromIndex, toIndex).clear();
+        modCount++;
+        keys = null;
+    }
+
+//helpers
+
+    private void helperRebuild() {
+        int size = elements.size();
+        int capacity = MIN_TABLE_SIZE;
+        while (capacity < 4L * size) capacity <<= 1; //leaves room for appends
+        keys = new Object[capacity];
+        positions = new int[capacity];
+        indexed = 0;
+        for (int i = 0; i < size; i++) {
+            helperPut(elements.get(i), i);
+        }
+    }
+
+    /** indexes the specified element at the specified position, unless an earlier occurrence is indexed */
+    private void helperPut(E element, int position) {
+        if ((indexed + 1) * 2 > keys.length) {
+            keys = null;
+            return; //the table is rebuilt at double the size by the next lookup
+        }
+        Object key = (element == null) ? NULL_KEY : element;
+        int mask = keys.length - 1;
+        int slot = helperSlot(key, mask);
+        while (keys[slot] != null) {
+            if (keys[slot] == key) return;
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        positions[slot] = position;
+        indexed++;
+    }
+
+    private static int helperSlot(Object key, int mask) {
+        int h = System.identityHashCode(key) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.doruked;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A growable list of {@code int} values. It serves the role of a {@code List<Integer>}, without boxing each element,
+ * so each element costs 4 bytes rather than an object and a reference.
+ * <p>
+ * Elements are stored in an array that doubles in capacity when full. Operations that use an index
+ * throw an {@link IndexOutOfBoundsException} when the index is out of range.
+ *
+ * @see IntListUtil
+ */
+@NotThreadSafe
+public final class IntList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int[] EMPTY = new int[0];
+
+    private int[] elements;
+    private int size;
+
+    public IntList() {
+        elements = EMPTY;
+    }
+
+    /**
+     * @param capacity the amount of elements that may be stored before growing
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public IntList(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Provided capacity: " + capacity + " is less than 0");
+        elements = (capacity == 0) ? EMPTY : new int[capacity];
+    }
+
+//factories
+
+    /**
+     * Creates a list containing the specified {@code values}. The values are copied.
+     *
+     * @param values the values to contain
+     * @return a list of the values
+     * @throws NullPointerException if values is null
+     */
+    public static IntList of(int... values) {
+        IntList list = new IntList();
+        list.elements = values.clone();
+        list.size = values.length;
+        return list;
+    }
+
+//public operations
+
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replaces the element at the specified {@code index}
+     *
+     * @param index the index to replace
+     * @param value the value to store
+     * @return the previous value at the index
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) grow(size + 1);
+        elements[size++] = value;
+    }
+
+    /**
+     * Inserts the specified {@code value} at the specified {@code index}, shifting the elements that follow it
+     *
+     * @param index the index to insert at
+     * @param value the value to insert
+     * @throws IndexOutOfBoundsException if the index is out of range ({@code index < 0 || index > size()})
+     */
+    public void add(int index, int value) {
+        if (index < 0 || index > size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        if (size == elements.length) grow(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * Appends each of the specified {@code values}
+     *
+     * @param values the values to append
+     * @throws NullPointerException if values is null
+     */
+    public void addAll(int... values) {
+        if (size + values.length > elements.length) grow(size + values.length);
+        System.arraycopy(values, 0, elements, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Removes the element at the specified {@code index}, shifting the elements that follow it
+     *
+     * @param index the index to remove
+     * @return the removed value
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+    /**
+     * Removes the elements from the specified {@code newSize} to the end of this list
+     *
+     * @param newSize the size to reduce this list to
+     * @throws IndexOutOfBoundsException if newSize is negative or greater than the size
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) throw new IndexOutOfBoundsException("Size: " + newSize + ", Current: " + size);
+        size = newSize;
+    }
+
+    /**
+     * Returns the index of the first element equal to the specified {@code value}
+     *
+     * @param value the value to find
+     * @return the index of the value, or -1 if it is not contained
+     */
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) return i;
+        }
+        return -1;
+    }
+
+    public boolean contains(int value) {
+        return indexOf(value) > -1;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Ensures the specified amount of elements may be stored without growing
+     *
+     * @param capacity the amount of elements to allow
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > elements.length) grow(capacity);
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * Returns a copy of this object's elements
+     *
+     * @return an array of this object's elements
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Returns the last element
+     *
+     * @return the last element
+     * @throws NoSuchElementException if this list is empty
+     */
+    public int last() {
+        if (size == 0) throw new NoSuchElementException();
+        return elements[size - 1];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntList)) return false;
+        IntList other = (IntList) o;
+        return Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Integer.hashCode(elements[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+//package-private
+
+    /** returns the array backing this list. Only the first {@link #size()} elements are in use */
+    int[] elements() {
+        return elements;
+    }
+
+//helpers
+
+    private void grow(int minCapacity) {
+        int capacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, elements.length * 2));
+        elements = Arrays.copyOf(elements, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
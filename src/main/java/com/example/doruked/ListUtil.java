@@ -1,8 +1,20 @@
 package com.example.doruked;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.*;
 import java.util.stream.Stream;
 
@@ -12,6 +24,23 @@ import java.util.stream.Stream;
  */
 public final class ListUtil {
 
+    /** The default size below which the parallel methods of this class run sequentially */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    /** The amount of chunks a parallel operation is split into, per available processor */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    /** whether a list class relies on the iterator based {@link Collection#removeIf(Predicate)} */
+    private static final ClassValue<Boolean> LACKS_BULK_REMOVAL = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("removeIf", Predicate.class).getDeclaringClass() == Collection.class;
+            } catch (NoSuchMethodException ex) {
+                return false;
+            }
+        }
+    };
 
 //Create
 
@@ -50,11 +79,13 @@ public final class ListUtil {
      * each element within the specified values
      * @implSpec This method is similar to already existing behavior such as {@link Stream#map(Function)}, with the
      * downside that you cannot chain additional behavior. If no additional behavior is needed this may be preferred.
-     * You may also use {@link List#forEach(Consumer)} if the result isn't explicitly needed.
+     * You may also use {@link List#forEach(Consumer)} if the result isn't explicitly needed. To chain behavior
+     * without creating intermediate lists, use {@link #pipeline(Collection)}.
      * @throws NullPointerException if function or collection is null
+     * @implNote the returned list is sized to the specified {@code values}, so it never grows while remapping
      */
     public static <T, R> List<R> unbox(Collection<? extends T> values, Function<? super T, ? extends R> function) {
-        List<R> list = new ArrayList<>();
+        List<R> list = new ArrayList<>(values.size());
         for (T t : values) {
             R result = function.apply(t);
             list.add(result);
@@ -62,6 +93,22 @@ public final class ListUtil {
         return list;
     }
 
+    /**
+     * Creates a {@link Pipeline} over the specified {@code source}. Operations chained to the pipeline are fused,
+     * so the source is iterated once, when a terminal operation is invoked, and no intermediate lists are created.
+     * <p>
+     * For example, {@code pipeline(list).filter(pred).map(function).limit(10).toList()} is equivalent to remapping
+     * the result of {@link #getIf}, then trimming it, but only allocates the returned list.
+     *
+     * @param source the elements to operate on
+     * @param <T> the type of elements in the source
+     * @return a pipeline that has no operations
+     * @throws NullPointerException if source is null
+     */
+    public static <T> Pipeline<T> pipeline(Collection<? extends T> source) {
+        return new Pipeline<>(Objects.requireNonNull(source), Pipeline::helperIdentity, Integer.MAX_VALUE, false);
+    }
+
 //Query
 
     /**
@@ -93,8 +140,12 @@ public final class ListUtil {
      * @param <T> the type of elements contained by collection
      * @return true if an element
      * @throws NullPointerException if collection or reference is null
+     * @implNote an {@link IdentityIndexedList} is searched through it's index
      */
     public static <T> boolean containsReference(Collection<? extends T> collection, T reference){
+        if (collection instanceof IdentityIndexedList) {
+            return ((IdentityIndexedList<?>) collection).containsReference(reference);
+        }
         for(T e: collection){
             if(reference == e)
                 return true;
@@ -208,13 +259,99 @@ public final class ListUtil {
      * @implSpec if multiple members match the predicate, the first is used
      */
     public static <T> T getSome(List<T> list, Predicate<T> pred, UnaryOperator<Integer> indexTransformation) {
-        int i = getIndex(list, pred);
-        Integer targetIndex = indexTransformation.apply(i);
+        return getSomeAt(list, pred, indexTransformation::apply);
+    }
 
-        if (targetIndex < list.size() && targetIndex > -1) {
-            return list.get(targetIndex);
-        }
-        return null;
+    /**
+     * Behaves as {@link #getSome(List, Predicate, UnaryOperator)}, but transforms the index without boxing it.
+     *
+     * @param list the list of elements to search
+     * @param pred the predicate matching the element to get the index of
+     * @param indexTransformation the transformation to apply to the found index
+     * @param <T> the type of elements to search and return
+     * @return the retrieved element or null if not found
+     * @implSpec if multiple members match the predicate, the first is used
+     * @implNote this method is not an overload of {@code getSome}, as an implicitly typed lambda such as
+     * {@code i -> i + 1} would be ambiguous between the two
+     */
+    public static <T> T getSomeAt(List<T> list, Predicate<T> pred, IntUnaryOperator indexTransformation) {
+        int targetIndex = indexTransformation.applyAsInt(getIndex(list, pred));
+        return helperGetInRange(list, targetIndex);
+    }
+
+    /**
+     * Searches the specified {@code list} for the element that occurs at {@code index +1} of each of the
+     * specified {@code targets}. The list is searched once, rather than once per target as
+     * {@link #getNextFrom(List, Object)} would.
+     * <p>
+     * This differs from calling {@code getNextFrom} for each target in two ways. (1) A target that is not contained
+     * by the list has a null next element, where {@code getNextFrom} returns the first element of the list, as it
+     * transforms the index -1. (2) Targets are matched through {@link Objects#equals}, so a null target matches a
+     * null element, where {@code getNextFrom} never matches a null target, and throws if an element is null.
+     *
+     * @param list the list to get the elements from
+     * @param targets the elements to get the next of
+     * @param <T> the type of elements to search and return
+     * @return a list containing the next element of each target, in the order of the targets. The next element
+     * is null if it doesn't exist, or if the target is not contained by the list.
+     * @throws NullPointerException if list or targets is null
+     * @implSpec if multiple elements equal a target, the first is used.
+     * @implNote costs {@code O(n + k)}, where {@code k} is the amount of targets. The list is searched
+     * through a {@link HashMap} of the targets.
+     */
+    public static <T> List<T> getNextFromAll(List<T> list, Collection<? extends T> targets) {
+        return helperGetSomeFromAll(list, targets, new HashMap<>(), 1);
+    }
+
+    /**
+     * Searches the specified {@code list} for the element that occurs at {@code index +1} of each of the
+     * specified {@code references}, as {@link #getNextFromAll} does, but matches elements by reference.
+     *
+     * @param list the list to get the elements from
+     * @param references the references to get the next of
+     * @param <T> the type of elements to search and return
+     * @return a list containing the next element of each reference, in the order of the references
+     * @throws NullPointerException if list or references is null
+     * @implNote costs {@code O(n + k)}. The list is searched through an {@link IdentityHashMap} of the references.
+     */
+    public static <T> List<T> getNextFromReferenceAll(List<T> list, Collection<? extends T> references) {
+        return helperGetSomeFromAll(list, references, new IdentityHashMap<>(), 1);
+    }
+
+    /**
+     * Searches the specified {@code list} for the element that occurs at {@code index -1} of each of the
+     * specified {@code targets}. The list is searched once, rather than once per target as
+     * {@link #getPreviousFrom(List, Object)} would.
+     * <p>
+     * This differs from calling {@code getPreviousFrom} for each target as described by {@link #getNextFromAll}:
+     * targets are matched through {@link Objects#equals}, so a null target matches a null element.
+     *
+     * @param list the list to get the elements from
+     * @param targets the elements to get the previous of
+     * @param <T> the type of elements to search and return
+     * @return a list containing the previous element of each target, in the order of the targets. The previous
+     * element is null if it doesn't exist, or if the target is not contained by the list.
+     * @throws NullPointerException if list or targets is null
+     * @implSpec if multiple elements equal a target, the first is used.
+     * @implNote costs {@code O(n + k)}, see {@link #getNextFromAll}
+     */
+    public static <T> List<T> getPreviousFromAll(List<T> list, Collection<? extends T> targets) {
+        return helperGetSomeFromAll(list, targets, new HashMap<>(), -1);
+    }
+
+    /**
+     * Searches the specified {@code list} for the element that occurs at {@code index -1} of each of the
+     * specified {@code references}, as {@link #getPreviousFromAll} does, but matches elements by reference.
+     *
+     * @param list the list to get the elements from
+     * @param references the references to get the previous of
+     * @param <T> the type of elements to search and return
+     * @return a list containing the previous element of each reference, in the order of the references
+     * @throws NullPointerException if list or references is null
+     * @implNote costs {@code O(n + k)}, see {@link #getNextFromReferenceAll}
+     */
+    public static <T> List<T> getPreviousFromReferenceAll(List<T> list, Collection<? extends T> references) {
+        return helperGetSomeFromAll(list, references, new IdentityHashMap<>(), -1);
     }
 
 //Get Index
@@ -227,12 +364,28 @@ public final class ListUtil {
      * @param reference the reference to find the index of
      * @param <T> the type contained by list
      * @return the index of the element that is referentially equal to the specified reference or -1 if not found
+     * @implNote an {@link IdentityIndexedList} is searched through it's index, in {@code O(1)}. Other
+     * {@link RandomAccess} lists are searched by index, others through their iterator. So, searching a
+     * {@link java.util.LinkedList} costs {@code O(n)}
      */
     public static <T> int getReferenceIndex(List<? extends T> list, T reference){
-        for(int i = 0; i < list.size(); i++){
-            if(reference == list.get(i)){
+        if (list instanceof IdentityIndexedList) {
+            return ((IdentityIndexedList<?>) list).indexOfReference(reference);
+        }
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (reference == list.get(i)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int i = 0;
+        for (T e : list) {
+            if (reference == e) {
                 return i;
             }
+            i++;
         }
         return -1;
     }
@@ -246,12 +399,23 @@ public final class ListUtil {
      * @param <T> the types to test
      * @return the index that matched the predicate or {@code -1} if none match
      * @implSpec results in some duplicate code in {@link #getReferenceIndex(List, Object)}
+     * @implNote {@link RandomAccess} lists are searched by index, others through their iterator
      */
     public static <T> int getIndex(List<T> list, Predicate<T> pred){
-        for(int i = 0; i< list.size(); i++){
-            if(pred.test(list.get(i))){
+        if (list instanceof RandomAccess) {
+            for (int i = 0, size = list.size(); i < size; i++) {
+                if (pred.test(list.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int i = 0;
+        for (T e : list) {
+            if (pred.test(e)) {
                 return i;
             }
+            i++;
         }
         return -1;
     }
@@ -259,20 +423,33 @@ public final class ListUtil {
 //Remove Element(s)
 
     /**
-     * Returns the first element encountered in the specified {@code list} that matches
+     * Removes the first element encountered in the specified {@code collection} that matches
      * the specified {@code predicate}.
      *
      * @param pred the predicate to match
-     * @param collection the list to search
+     * @param collection the collection to search
      * @param <T> the type to be removed
-     * @return the removable first element to match the predicate or null
+     * @return the removed first element to match the predicate or null
      * @throws NullPointerException if predicate or collection is null
+     * @implNote the matched element is removed at it's position, rather than by {@code equals}. So, an equal
+     * element that occurs earlier is not removed in it's place. This costs a single pass.
      */
     public static <T> T remove(Predicate<? super T> pred, Collection<? extends T> collection) {
-        for (T e : collection) {
-            if (pred.test(e))
-                if(collection.remove(e))
-                    return e;
+        if (collection instanceof List && collection instanceof RandomAccess) {
+            List<? extends T> list = (List<? extends T>) collection;
+            for (int i = 0; i < list.size(); i++) {
+                if (pred.test(list.get(i)))
+                    return list.remove(i);
+            }
+            return null;
+        }
+        Iterator<? extends T> it = collection.iterator();
+        while (it.hasNext()) {
+            T e = it.next();
+            if (pred.test(e)) {
+                it.remove();
+                return e;
+            }
         }
         return null;
     }
@@ -288,14 +465,26 @@ public final class ListUtil {
      * @throws NullPointerException if predicate or collection is null
      * @implSpec consider using {@link List#removeIf(Predicate)}. The use of this method is that
      * it returns the elements that are removed.
+     * @implNote removal costs a single pass. {@link RandomAccess} subclasses of {@link AbstractList} that
+     * inherit the iterator based {@link Collection#removeIf(Predicate)} are compacted in place: every element is tested
+     * first, then the list is truncated to it's new size at once, and the kept elements are set into place.
+     * If the predicate throws, or such a list does not support {@code set} or removal (such as
+     * {@link Arrays#asList}), the list is left unmodified. Every other collection, such as an {@link ArrayList},
+     * {@link java.util.concurrent.CopyOnWriteArrayList} or a synchronized list, removes through it's own
+     * {@link Collection#removeIf(Predicate)}, so it's own removal and locking are kept.
      */
     public static <T> List<T> removeIf(Predicate<? super T> pred, Collection<? extends T> collection) {
         List<T> removed = new ArrayList<>();
-        for (T e : collection) {
-            if (pred.test(e))
-                if (collection.remove(e))
-                    removed.add(e);
+        if (collection instanceof AbstractList && collection instanceof RandomAccess
+                && LACKS_BULK_REMOVAL.get(collection.getClass())) {
+            helperCompact((List<? extends T>) collection, pred, removed);
+            return removed;
         }
+        collection.removeIf(e -> {
+            if (!pred.test(e)) return false;
+            removed.add(e);
+            return true;
+        });
         return removed;
     }
 
@@ -340,17 +529,44 @@ public final class ListUtil {
      * @param list the list to remove elements from
      * @param bound the inclusive bound
      * @param <T> the type of elements contained by list
-     * @return the removed elements
+     * @return the removed elements, starting from the last element of the list
      * @throws NullPointerException if list is null
-     * @throws IndexOutOfBoundsException
+     * @throws IndexOutOfBoundsException if the bound is not an index of the list
+     * @see #trimToIndex(List, int, boolean)
      */
     public static <T> List<T> trimToIndex(List<T> list, int bound){
-       if(bound < 0 || bound > list.size()) throw new IndexOutOfBoundsException();
-        List<T> removed = new ArrayList<>();
-        while (bound != list.size() - 1) {
-            T e = list.remove(list.size() - 1);
-            removed.add(e);
+        return trimToIndex(list, bound, true);
+    }
+
+    /**
+     * Removes from the specified {@code list} the elements that occur
+     * after the specified {@code bound}. The removed elements are only collected when requested,
+     * so callers that ignore them avoid the allocation.
+     *
+     * @param list the list to remove elements from
+     * @param bound the inclusive bound
+     * @param collectRemoved whether the removed elements are returned
+     * @param <T> the type of elements contained by list
+     * @return the removed elements, starting from the last element of the list,
+     * or an empty list if {@code collectRemoved} is false
+     * @throws NullPointerException if list is null
+     * @throws IndexOutOfBoundsException if the bound is not an index of the list
+     * @implNote the elements are removed in bulk, through {@link List#subList(int, int)}. For an
+     * {@link ArrayList} this costs a single array copy rather than a removal per element.
+     */
+    public static <T> List<T> trimToIndex(List<T> list, int bound, boolean collectRemoved){
+        Objects.checkIndex(bound, list.size());
+        List<T> tail = list.subList(bound + 1, list.size());
+        if (tail.isEmpty()) return collectRemoved ? new ArrayList<>() : Collections.emptyList();
+
+        List<T> removed;
+        if (collectRemoved) {
+            removed = new ArrayList<>(tail);
+            Collections.reverse(removed);
+        } else {
+            removed = Collections.emptyList();
         }
+        tail.clear();
         return removed;
     }
 
@@ -474,6 +690,180 @@ public final class ListUtil {
        return list;
     }
 
+//Parallel
+
+    /**
+     * Works like {@link #create(Predicate, Collection)}, but tests the elements of large collections in parallel.
+     *
+     * @param pred the predicate that if matched, adds the object
+     * @param collection the collection to filter
+     * @param <T> the type to be added
+     * @return a list of the objects from the specified collection that match the predicate, in encounter order
+     * @throws NullPointerException if predicate or collection is null
+     * @see #getIfParallel(Predicate, Collection, int)
+     */
+    public static <T> List<T> createParallel(Predicate<? super T> pred, Collection<T> collection){
+        return getIfParallel(pred, collection, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Works like {@link #getIf(Predicate, Collection)}, but tests the elements of large collections in parallel.
+     *
+     * @param pred the filter to apply
+     * @param collection the collection to filter
+     * @param <T> the type to filter
+     * @return the elements in the specified collection that matched the predicate, in encounter order
+     * @throws NullPointerException if predicate or collection is null
+     * @see #getIfParallel(Predicate, Collection, int)
+     */
+    public static <T> List<T> getIfParallel(Predicate<? super T> pred, Collection<? extends T> collection) {
+        return getIfParallel(pred, collection, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Works like {@link #getIf(Predicate, Collection)}, but when the size of the specified {@code collection}
+     * is at least the specified {@code threshold}, it's elements are tested in parallel. The returned elements
+     * remain in encounter order.
+     *
+     * @param pred the filter to apply
+     * @param collection the collection to filter
+     * @param threshold the size at which the collection is processed in parallel
+     * @param <T> the type to filter
+     * @return the elements in the specified collection that matched the predicate, in encounter order
+     * @throws NullPointerException if predicate or collection is null
+     * @throws IllegalArgumentException if threshold is negative
+     * @implNote the collection is split into chunks that are filtered by the {@link ForkJoinPool#commonPool()}.
+     * The matches of each chunk are then copied, in order, into a list sized to hold all of them.
+     * The predicate must be safe to call from multiple threads.
+     */
+    public static <T> List<T> getIfParallel(Predicate<? super T> pred, Collection<? extends T> collection, int threshold) {
+        Objects.requireNonNull(pred);
+        if (!helperIsParallel(collection, threshold)) return getIf(pred, collection);
+
+        List<? extends T> source = helperIndexed(collection);
+        int size = source.size();
+        int chunks = helperChunkCount(size);
+        List<List<T>> parts = new ArrayList<>(Collections.nCopies(chunks, null));
+        helperForEachChunk(chunks, chunk -> {
+            int to = helperChunkEnd(chunk, chunks, size);
+            List<T> part = new ArrayList<>();
+            for (int i = helperChunkStart(chunk, chunks, size); i < to; i++) {
+                T e = source.get(i);
+                if (pred.test(e)) part.add(e);
+            }
+            parts.set(chunk, part);
+        });
+
+        int total = 0;
+        for (List<T> part : parts) {
+            total += part.size();
+        }
+        List<T> filtered = new ArrayList<>(total);
+        for (List<T> part : parts) {
+            filtered.addAll(part);
+        }
+        return filtered;
+    }
+
+    /**
+     * Works like {@link #unbox(Collection, Function)}, but maps the elements of large collections in parallel.
+     *
+     * @param values   the values to unbox/ remap
+     * @param function the function to apply to each element
+     * @param <T>      the type being remapped
+     * @param <R>      the new elements
+     * @return a list containing the result of applying the function to each value, in encounter order
+     * @throws NullPointerException if function or collection is null
+     * @see #unboxParallel(Collection, Function, int)
+     */
+    public static <T, R> List<R> unboxParallel(Collection<? extends T> values, Function<? super T, ? extends R> function) {
+        return unboxParallel(values, function, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Works like {@link #unbox(Collection, Function)}, but when the size of the specified {@code values}
+     * is at least the specified {@code threshold}, the values are mapped in parallel. The results remain in
+     * encounter order.
+     *
+     * @param values   the values to unbox/ remap
+     * @param function the function to apply to each element
+     * @param threshold the size at which the values are processed in parallel
+     * @param <T>      the type being remapped
+     * @param <R>      the new elements
+     * @return a list containing the result of applying the function to each value, in encounter order
+     * @throws NullPointerException if function or collection is null
+     * @throws IllegalArgumentException if threshold is negative
+     * @implNote each chunk writes it's results directly to their final position in an array sized to the values.
+     * The function must be safe to call from multiple threads.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> List<R> unboxParallel(Collection<? extends T> values, Function<? super T, ? extends R> function, int threshold) {
+        Objects.requireNonNull(function);
+        if (!helperIsParallel(values, threshold)) return unbox(values, function);
+
+        List<? extends T> source = helperIndexed(values);
+        int size = source.size();
+        int chunks = helperChunkCount(size);
+        Object[] results = new Object[size];
+        helperForEachChunk(chunks, chunk -> {
+            int to = helperChunkEnd(chunk, chunks, size);
+            for (int i = helperChunkStart(chunk, chunks, size); i < to; i++) {
+                results[i] = function.apply(source.get(i));
+            }
+        });
+        return new ArrayList<>((List<R>) Arrays.asList(results));
+    }
+
+    /**
+     * Works like {@link #get(Predicate, Collection)}, but searches large collections in parallel.
+     *
+     * @param pred the predicate to match
+     * @param collection the collection to search
+     * @param <T> the type to search for
+     * @return the first element, in encounter order, to match the predicate or null
+     * @throws NullPointerException if predicate or collection is null
+     * @see #getParallel(Predicate, Collection, int)
+     */
+    public static <T> T getParallel(Predicate<? super T> pred, Collection<? extends T> collection) {
+        return getParallel(pred, collection, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Works like {@link #get(Predicate, Collection)}, but when the size of the specified {@code collection}
+     * is at least the specified {@code threshold}, it's elements are searched in parallel. The returned element is
+     * still the first match in encounter order.
+     *
+     * @param pred the predicate to match
+     * @param collection the collection to search
+     * @param threshold the size at which the collection is searched in parallel
+     * @param <T> the type to search for
+     * @return the first element, in encounter order, to match the predicate or null
+     * @throws NullPointerException if predicate or collection is null
+     * @throws IllegalArgumentException if threshold is negative
+     * @implNote once a match is found, chunks that occur after it stop searching. The predicate must be safe to
+     * call from multiple threads, and may be applied to elements after the first match.
+     */
+    public static <T> T getParallel(Predicate<? super T> pred, Collection<? extends T> collection, int threshold) {
+        Objects.requireNonNull(pred);
+        if (!helperIsParallel(collection, threshold)) return get(pred, collection);
+
+        List<? extends T> source = helperIndexed(collection);
+        int size = source.size();
+        int chunks = helperChunkCount(size);
+        AtomicInteger first = new AtomicInteger(size);
+        helperForEachChunk(chunks, chunk -> {
+            int to = helperChunkEnd(chunk, chunks, size);
+            for (int i = helperChunkStart(chunk, chunks, size); i < to && i < first.get(); i++) {
+                if (pred.test(source.get(i))) {
+                    first.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        });
+        int index = first.get();
+        return (index < size) ? source.get(index) : null;
+    }
+
 //General
 
     /**
@@ -501,16 +891,320 @@ public final class ListUtil {
 
 //Helpers
 
+    /**
+     * Removes the elements of the specified {@code list} that match the specified {@code predicate}, and adds them
+     * to the specified {@code removed}. Every element is tested before the list is modified. The list is then
+     * truncated to it's new size before any element is shifted, so a list that does not support removal, or
+     * {@code set}, throws while it is still unmodified.
+     */
+    private static <T, E extends T> void helperCompact(List<E> list, Predicate<? super T> pred, List<T> removed) {
+        int size = list.size();
+        int first = -1;
+        List<E> kept = new ArrayList<>(); //the kept elements that follow the first removed one
+        for (int i = 0; i < size; i++) {
+            E e = list.get(i);
+            if (pred.test(e)) {
+                removed.add(e);
+                if (first < 0) first = i;
+            } else if (first >= 0) {
+                kept.add(e);
+            }
+        }
+        if (first < 0) return;
+
+        list.set(first, list.get(first)); //throws if set is unsupported
+        list.subList(first + kept.size(), size).clear(); //throws if removal is unsupported
+        for (int i = 0; i < kept.size(); i++) {
+            list.set(first + i, kept.get(i));
+        }
+    }
+
+    private static boolean helperIsParallel(Collection<?> collection, int threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("Provided threshold: " + threshold + " is less than 0");
+        return collection.size() >= threshold && collection.size() > 1 && ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /** returns the specified collection as a list that is cheap to access by index */
+    @SuppressWarnings("unchecked")
+    private static <T> List<? extends T> helperIndexed(Collection<? extends T> collection) {
+        if (collection instanceof List && collection instanceof RandomAccess) return (List<? extends T>) collection;
+        return (List<T>) Arrays.asList(collection.toArray());
+    }
+
+    private static int helperChunkCount(int size) {
+        int chunks = ForkJoinPool.getCommonPoolParallelism() * CHUNKS_PER_THREAD;
+        return Math.max(1, Math.min(size, chunks));
+    }
+
+    private static int helperChunkStart(int chunk, int chunks, int size) {
+        return (int) ((long) chunk * size / chunks);
+    }
+
+    private static int helperChunkEnd(int chunk, int chunks, int size) {
+        return helperChunkStart(chunk + 1, chunks, size);
+    }
+
+    private static void helperForEachChunk(int chunks, IntConsumer action) {
+        ForkJoinPool.commonPool().invoke(new ChunkTask(0, chunks, action));
+    }
+
     private static boolean helperCheckAmount(int amount){
         if(amount < 0) throw new IllegalArgumentException("Provided amount: " + amount + " is less than 0");
         else return true;
     }
 
-    private static <T> T getSomeWhenReference(List<T> list, T reference, UnaryOperator<Integer> indexTransformation) {
-        return getSome(list, e-> e == reference, indexTransformation);
+    private static <T> T getSomeWhenReference(List<T> list, T reference, IntUnaryOperator indexTransformation) {
+        int targetIndex = indexTransformation.applyAsInt(getReferenceIndex(list, reference));
+        return helperGetInRange(list, targetIndex);
+    }
+
+    private static <T> T getSomeWhenEquals(List<T> list, T target, IntUnaryOperator indexTransformation) {
+        return getSomeAt(list, e-> e.equals(target), indexTransformation);
+    }
+
+    private static <T> T helperGetInRange(List<T> list, int index) {
+        return (index < list.size() && index > -1) ? list.get(index) : null;
+    }
+
+    /**
+     * Locates the first occurrence of each target in one pass of the specified {@code list}, by recording it's
+     * index in the specified {@code positions}. Then, returns the element at that index plus the offset.
+     */
+    private static <T> List<T> helperGetSomeFromAll(List<T> list, Collection<? extends T> targets,
+                                                    Map<Object, Integer> positions, int offset) {
+        for (T target : targets) {
+            positions.put(target, -1);
+        }
+        List<T> indexed = (list instanceof RandomAccess) ? list : new ArrayList<>(list);
+        int unresolved = positions.size();
+        for (int i = 0, size = indexed.size(); i < size && unresolved > 0; i++) {
+            T e = indexed.get(i);
+            Integer position = positions.get(e);
+            if (position != null && position == -1) {
+                positions.put(e, i);
+                unresolved--;
+            }
+        }
+
+        List<T> result = new ArrayList<>(targets.size());
+        for (T target : targets) {
+            int position = positions.get(target);
+            result.add((position == -1) ? null : helperGetInRange(indexed, position + offset));
+        }
+        return result;
+    }
+
+//inner class
+
+    /**
+     * A lazy sequence of operations over a source collection, created by {@link #pipeline(Collection)}.
+     * <p>
+     * A pipeline is immutable. Each intermediate operation ({@link #filter}, {@link #map}, {@link #limit})
+     * returns a new pipeline, and does not visit the source. Each terminal operation ({@link #toList},
+     * {@link #first}, {@link #count}, {@link #anyMatch}, {@link #forEach}) iterates the source once, passing each
+     * element through every operation before visiting the next element. Iteration stops as soon as no more
+     * elements are needed, such as once a {@link #limit} is reached.
+     * <p>
+     * Unlike {@link Stream}, a pipeline may be reused, and it's terminal operations may be invoked any amount
+     * of times. Each invocation reflects the current contents of the source.
+     *
+     * @param <T> the type of elements produced by this pipeline
+     * @implNote operations are composed into a chain of {@link Sink sinks} when a terminal operation is invoked.
+     * There is no splitting or parallelism, which keeps the overhead of small and medium lists low.
+     */
+    public static final class Pipeline<T> {
+        private final Collection<?> source;
+        /** connects a terminal sink to the source, through every operation of this pipeline */
+        private final Function<Sink<? super T>, Sink<Object>> connect;
+        /** the smallest limit of this pipeline */
+        private final int max;
+        /** whether an element of the source may be discarded by a filter */
+        private final boolean filtered;
+
+        private Pipeline(Collection<?> source, Function<Sink<? super T>, Sink<Object>> connect, int max, boolean filtered) {
+            this.source = source;
+            this.connect = connect;
+            this.max = max;
+            this.filtered = filtered;
+        }
+
+    //intermediate
+
+        /**
+         * @param pred the predicate that an element must match to be kept
+         * @return a pipeline that keeps the elements of this pipeline that match the specified predicate
+         * @throws NullPointerException if predicate is null
+         */
+        public Pipeline<T> filter(Predicate<? super T> pred) {
+            Objects.requireNonNull(pred);
+            return new Pipeline<>(source, down -> connect.apply(e -> !pred.test(e) || down.accept(e)), max, true);
+        }
+
+        /**
+         * @param function the function to apply to each element
+         * @param <R> the type of the results
+         * @return a pipeline that produces the result of applying the function to each element of this pipeline
+         * @throws NullPointerException if function is null
+         */
+        public <R> Pipeline<R> map(Function<? super T, ? extends R> function) {
+            Objects.requireNonNull(function);
+            return new Pipeline<>(source, down -> connect.apply(e -> down.accept(function.apply(e))), max, filtered);
+        }
+
+        /**
+         * @param max the largest amount of elements to produce
+         * @return a pipeline that produces at most the specified amount of elements of this pipeline
+         * @throws IllegalArgumentException if max is less than 0
+         */
+        public Pipeline<T> limit(int max) {
+            helperCheckAmount(max);
+            return new Pipeline<>(source, down -> connect.apply(new Sink<T>() {
+                private int taken;
+
+                @Override
+                public boolean accept(T e) {
+                    if (taken >= max) return false;
+                    taken++;
+                    return down.accept(e) && taken < max;
+                }
+            }), Math.min(this.max, max), filtered);
+        }
+
+    //terminal
+
+        /**
+         * @return a new list of the elements produced by this pipeline, in order
+         * @implNote unless this pipeline has a filter, the list is sized to the amount of elements produced
+         */
+        public List<T> toList() {
+            List<T> list = filtered ? new ArrayList<>() : new ArrayList<>(helperBound());
+            helperRun(e -> {
+                list.add(e);
+                return true;
+            });
+            return list;
+        }
+
+        /**
+         * @return the first element produced by this pipeline, or null if none are produced
+         */
+        public T first() {
+            List<T> found = new ArrayList<>(1);
+            helperRun(e -> {
+                found.add(e);
+                return false;
+            });
+            return found.isEmpty() ? null : found.get(0);
+        }
+
+        /**
+         * @param pred the predicate to match
+         * @return the first element produced by this pipeline that matches the predicate, or null if none match
+         * @throws NullPointerException if predicate is null
+         */
+        public T first(Predicate<? super T> pred) {
+            return filter(pred).first();
+        }
+
+        /**
+         * @param pred the predicate to match
+         * @return true if an element produced by this pipeline matches the predicate
+         * @throws NullPointerException if predicate is null
+         */
+        public boolean anyMatch(Predicate<? super T> pred) {
+            Objects.requireNonNull(pred);
+            boolean[] matched = {false};
+            helperRun(e -> !(matched[0] = pred.test(e)));
+            return matched[0];
+        }
+
+        /**
+         * @return the amount of elements produced by this pipeline
+         */
+        public int count() {
+            int[] count = {0};
+            helperRun(e -> {
+                count[0]++;
+                return true;
+            });
+            return count[0];
+        }
+
+        /**
+         * @param action the action to apply to each element produced by this pipeline, in order
+         * @throws NullPointerException if action is null
+         */
+        public void forEach(Consumer<? super T> action) {
+            Objects.requireNonNull(action);
+            helperRun(e -> {
+                action.accept(e);
+                return true;
+            });
+        }
+
+    //helpers
+
+        private void helperRun(Sink<? super T> terminal) {
+            if (helperBound() == 0) return;
+            Sink<Object> sink = connect.apply(terminal);
+            if (source instanceof List && source instanceof RandomAccess) {
+                List<?> list = (List<?>) source;
+                for (int i = 0, size = list.size(); i < size; i++) {
+                    if (!sink.accept(list.get(i))) return;
+                }
+                return;
+            }
+            for (Object e : source) {
+                if (!sink.accept(e)) return;
+            }
+        }
+
+        /** returns the largest amount of elements this pipeline may produce */
+        private int helperBound() {
+            return Math.min(source.size(), max);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> Sink<Object> helperIdentity(Sink<? super T> terminal) {
+            return (Sink<Object>) terminal; //the source only contains elements of T
+        }
     }
 
-    private static <T> T getSomeWhenEquals(List<T> list, T target, UnaryOperator<Integer> indexTransformation) {
-        return getSome(list, e-> e.equals(target), indexTransformation);
+    /**
+     * Receives the elements of a {@link Pipeline}, one at a time
+     *
+     * @param <T> the type of elements received
+     */
+    @FunctionalInterface
+    private interface Sink<T> {
+
+        /**
+         * @param e the element to receive
+         * @return false if no more elements are needed
+         */
+        boolean accept(T e);
+    }
+
+    /** Applies an action to each chunk index in a range, splitting the range in half until a single chunk remains */
+    private static final class ChunkTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer action;
+
+        private ChunkTask(int from, int to, IntConsumer action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                action.accept(from);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(from, mid, action), new ChunkTask(mid, to, action));
+        }
     }
 }
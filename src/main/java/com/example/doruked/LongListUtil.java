@@ -0,0 +1,347 @@
+package com.example.doruked;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * This class contains counterparts of {@link ListUtil} utilities for {@code long[]} and {@link LongList}.
+ * Elements are never boxed. Where {@code ListUtil} returns {@code null} for an element that was not found,
+ * these methods return an empty {@link OptionalLong}.
+ */
+public final class LongListUtil {
+
+//Create
+
+    /**
+     * Returns the specified {@code values} that match the specified {@code predicate}, in order
+     *
+     * @param pred the filter to apply
+     * @param values the values to filter
+     * @return an array of the values that matched the predicate
+     * @throws NullPointerException if predicate or values is null
+     * @see ListUtil#getIf
+     */
+    public static long[] getIf(LongPredicate pred, long[] values) {
+        return helperGetIf(pred, values, values.length);
+    }
+
+    /**
+     * Returns the elements of the specified {@code list} that match the specified {@code predicate}, in order
+     *
+     * @param pred the filter to apply
+     * @param list the list to filter
+     * @return a new list of the elements that matched the predicate
+     * @throws NullPointerException if predicate or list is null
+     * @see ListUtil#getIf
+     */
+    public static LongList getIf(LongPredicate pred, LongList list) {
+        return LongList.of(helperGetIf(pred, list.elements(), list.size()));
+    }
+
+    /**
+     * Remaps the specified {@code values} by the specified {@code function}, in order
+     *
+     * @param values the values to remap
+     * @param function the function to apply to each value
+     * @return an array of the results
+     * @throws NullPointerException if function or values is null
+     * @see ListUtil#unbox
+     */
+    public static long[] map(long[] values, LongUnaryOperator function) {
+        return helperMap(values, values.length, function);
+    }
+
+    /**
+     * Remaps the elements of the specified {@code list} by the specified {@code function}, in order
+     *
+     * @param list the list to remap
+     * @param function the function to apply to each element
+     * @return a new list of the results
+     * @throws NullPointerException if function or list is null
+     * @see ListUtil#unbox
+     */
+    public static LongList map(LongList list, LongUnaryOperator function) {
+        return LongList.of(helperMap(list.elements(), list.size(), function));
+    }
+
+//Get Index
+
+    /**
+     * Returns the index of the first of the specified {@code values} to match the specified {@code predicate}
+     *
+     * @param values the values to search
+     * @param pred the predicate to match
+     * @return the index that matched the predicate or {@code -1} if none match
+     * @throws NullPointerException if predicate or values is null
+     */
+    public static int getIndex(long[] values, LongPredicate pred) {
+        return helperGetIndex(values, values.length, pred);
+    }
+
+    /**
+     * Returns the index of the first element of the specified {@code list} to match the specified {@code predicate}
+     *
+     * @param list the list to search
+     * @param pred the predicate to match
+     * @return the index that matched the predicate or {@code -1} if none match
+     * @throws NullPointerException if predicate or list is null
+     */
+    public static int getIndex(LongList list, LongPredicate pred) {
+        return helperGetIndex(list.elements(), list.size(), pred);
+    }
+
+    /**
+     * Returns the index of the first of the specified {@code values} that equals the specified {@code target}
+     *
+     * @param values the values to search
+     * @param target the value to find
+     * @return the index of the target or {@code -1} if it is not found
+     * @throws NullPointerException if values is null
+     */
+    public static int indexOf(long[] values, long target) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == target) return i;
+        }
+        return -1;
+    }
+
+//Get Element
+
+    /**
+     * Returns the value that follows the first occurrence of the specified {@code target}
+     *
+     * @param values the values to search
+     * @param target the value to get the next of
+     * @return the next value, or an empty optional if the target is not found or is last
+     * @throws NullPointerException if values is null
+     * @see ListUtil#getNextFrom
+     */
+    public static OptionalLong getNextFrom(long[] values, long target) {
+        return getSome(values, e -> e == target, i -> i + 1);
+    }
+
+    /**
+     * Returns the element that follows the first occurrence of the specified {@code target}
+     * in the specified {@code list}
+     *
+     * @param list the list to search
+     * @param target the element to get the next of
+     * @return the next element, or an empty optional if the target is not found or is last
+     * @throws NullPointerException if list is null
+     * @see ListUtil#getNextFrom
+     */
+    public static OptionalLong getNextFrom(LongList list, long target) {
+        return getSome(list, e -> e == target, i -> i + 1);
+    }
+
+    /**
+     * Returns the value that precedes the first occurrence of the specified {@code target}
+     *
+     * @param values the values to search
+     * @param target the value to get the previous of
+     * @return the previous value, or an empty optional if the target is not found or is first
+     * @throws NullPointerException if values is null
+     * @see ListUtil#getPreviousFrom
+     */
+    public static OptionalLong getPreviousFrom(long[] values, long target) {
+        return getSome(values, e -> e == target, i -> i - 1);
+    }
+
+    /**
+     * Returns the element that precedes the first occurrence of the specified {@code target}
+     * in the specified {@code list}
+     *
+     * @param list the list to search
+     * @param target the element to get the previous of
+     * @return the previous element, or an empty optional if the target is not found or is first
+     * @throws NullPointerException if list is null
+     * @see ListUtil#getPreviousFrom
+     */
+    public static OptionalLong getPreviousFrom(LongList list, long target) {
+        return getSome(list, e -> e == target, i -> i - 1);
+    }
+
+    /**
+     * Locates the first of the specified {@code values} to match the specified {@code predicate}, then returns
+     * the value at the index produced by applying the specified {@code indexTransformation} to it's index
+     *
+     * @param values the values to search
+     * @param pred the predicate matching the value to get the index of
+     * @param indexTransformation the transformation to apply to the found index
+     * @return the retrieved value, or an empty optional if no value matches or the transformed index is out of range
+     * @throws NullPointerException if any argument is null
+     * @see ListUtil#getSome
+     */
+    public static OptionalLong getSome(long[] values, LongPredicate pred, IntUnaryOperator indexTransformation) {
+        return helperGetSome(values, values.length, pred, indexTransformation);
+    }
+
+    /**
+     * Locates the first element of the specified {@code list} to match the specified {@code predicate}, then returns
+     * the element at the index produced by applying the specified {@code indexTransformation} to it's index
+     *
+     * @param list the list to search
+     * @param pred the predicate matching the element to get the index of
+     * @param indexTransformation the transformation to apply to the found index
+     * @return the retrieved element, or an empty optional if no element matches or the transformed index is out
+     * of range
+     * @throws NullPointerException if any argument is null
+     * @see ListUtil#getSome
+     */
+    public static OptionalLong getSome(LongList list, LongPredicate pred, IntUnaryOperator indexTransformation) {
+        return helperGetSome(list.elements(), list.size(), pred, indexTransformation);
+    }
+
+//Remove Element(s)
+
+    /**
+     * Removes from the specified {@code list} the elements that occur after the specified {@code bound}
+     *
+     * @param list the list to remove elements from
+     * @param bound the inclusive bound
+     * @return the removed elements, starting from the last element of the list
+     * @throws NullPointerException if list is null
+     * @throws IndexOutOfBoundsException if the bound is not an index of the list
+     * @see ListUtil#trimToIndex(java.util.List, int)
+     */
+    public static long[] trimToIndex(LongList list, int bound) {
+        return trimToIndex(list, bound, true);
+    }
+
+    /**
+     * Removes from the specified {@code list} the elements that occur after the specified {@code bound}.
+     * The removed elements are only collected when requested.
+     *
+     * @param list the list to remove elements from
+     * @param bound the inclusive bound
+     * @param collectRemoved whether the removed elements are returned
+     * @return the removed elements, starting from the last element of the list,
+     * or an empty array if {@code collectRemoved} is false
+     * @throws NullPointerException if list is null
+     * @throws IndexOutOfBoundsException if the bound is not an index of the list
+     */
+    public static long[] trimToIndex(LongList list, int bound, boolean collectRemoved) {
+        int size = list.size();
+        if (bound < 0 || bound >= size) throw new IndexOutOfBoundsException("Index: " + bound + ", Size: " + size);
+
+        long[] removed = new long[collectRemoved ? size - bound - 1 : 0];
+        long[] elements = list.elements();
+        for (int i = 0; i < removed.length; i++) {
+            removed[i] = elements[size - 1 - i];
+        }
+        list.truncate(bound + 1);
+        return removed;
+    }
+
+//Add
+
+    /**
+     * Inserts the element at the specified {@code index} again at that position
+     *
+     * @param list the list to duplicate from and to
+     * @param index the index to duplicate
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @see ListUtil#duplicateIndex(java.util.List, int)
+     */
+    public static void duplicateIndex(LongList list, int index) {
+        list.add(index, list.get(index));
+    }
+
+    /**
+     * Applies the specified {@code copyFunction} to the element at the specified {@code index}, and inserts
+     * the result at {@code index + 1}
+     *
+     * @param list the list to duplicate from and to
+     * @param index the index to duplicate
+     * @param copyFunction the function that produces the inserted value
+     * @throws IndexOutOfBoundsException if the index is out of range
+     * @see ListUtil#duplicateIndex(java.util.List, int, java.util.function.UnaryOperator)
+     */
+    public static void duplicateIndex(LongList list, int index, LongUnaryOperator copyFunction) {
+        list.add(index + 1, copyFunction.applyAsLong(list.get(index)));
+    }
+
+    /**
+     * Appends the specified {@code value} to the specified {@code list} until the amount appended equals
+     * the specified {@code amount}
+     *
+     * @param list the list to add to
+     * @param amount the amount to add
+     * @param value the value to add
+     * @return the specified list
+     * @throws NullPointerException if list is null
+     * @throws IllegalArgumentException if amount < 0
+     * @see ListUtil#addAmount
+     */
+    public static LongList addAmount(LongList list, int amount, long value) {
+        helperCheckAmount(amount);
+        list.ensureCapacity(list.size() + amount);
+        for (int i = 0; i < amount; i++) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    /**
+     * Appends the values produced by the specified {@code sup} to the specified {@code list} until the amount
+     * appended equals the specified {@code amount}. The supplier is invoked for each add.
+     *
+     * @param list the list to add to
+     * @param amount the amount to add
+     * @param sup the function that produces each value
+     * @return the specified list
+     * @throws NullPointerException if list or supplier is null
+     * @throws IllegalArgumentException if amount < 0
+     * @see ListUtil#addSupplied(java.util.List, int, java.util.function.Supplier, boolean)
+     */
+    public static LongList addSupplied(LongList list, int amount, LongSupplier sup) {
+        helperCheckAmount(amount);
+        list.ensureCapacity(list.size() + amount);
+        for (int i = 0; i < amount; i++) {
+            list.add(sup.getAsLong());
+        }
+        return list;
+    }
+
+//Helpers
+
+    private static long[] helperGetIf(LongPredicate pred, long[] values, int size) {
+        long[] filtered = new long[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (pred.test(values[i])) filtered[count++] = values[i];
+        }
+        return (count == size) ? filtered : Arrays.copyOf(filtered, count);
+    }
+
+    private static long[] helperMap(long[] values, int size, LongUnaryOperator function) {
+        long[] mapped = new long[size];
+        for (int i = 0; i < size; i++) {
+            mapped[i] = function.applyAsLong(values[i]);
+        }
+        return mapped;
+    }
+
+    private static int helperGetIndex(long[] values, int size, LongPredicate pred) {
+        for (int i = 0; i < size; i++) {
+            if (pred.test(values[i])) return i;
+        }
+        return -1;
+    }
+
+    private static OptionalLong helperGetSome(long[] values, int size, LongPredicate pred, IntUnaryOperator indexTransformation) {
+        int i = helperGetIndex(values, size, pred);
+        if (i == -1) return OptionalLong.empty();
+        int target = indexTransformation.applyAsInt(i);
+        if (target < size && target > -1) return OptionalLong.of(values[target]);
+        return OptionalLong.empty();
+    }
+
+    private static void helperCheckAmount(int amount) {
+        if (amount < 0) throw new IllegalArgumentException("Provided amount: " + amount + " is less than 0");
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.doruked;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * This interface represents an associative operation that has an identity value.
+ * It is used to reduce (fold) a group of values into a single value, where the grouping
+ * of values does not affect the result. For example, {@code combine(a, combine(b, c))}
+ * must be equal to {@code combine(combine(a, b), c)}, and combining any value with
+ * {@link #identity()} must produce that same value.
+ * <p>
+ * Being associative is what allows partial results to be cached and combined later.
+ * A sum of a group can be reused to create the sum of a larger group, without
+ * revisiting the values that were already summed.
+ *
+ * @param <A> the type of values that are combined
+ */
+public interface Monoid<A> {
+
+    /**
+     * Returns the identity value. Combining the identity with any value
+     * produces that value.
+     *
+     * @return the identity value
+     */
+    A identity();
+
+    /**
+     * Combines the specified values into a single value.
+     *
+     * @param left  the first value
+     * @param right the second value
+     * @return the result of combining both values
+     * @implSpec must be associative
+     */
+    A combine(A left, A right);
+
+//factories
+
+    /**
+     * Creates a {@link Monoid} from the specified {@code identity} and {@code combiner}
+     *
+     * @param identity the identity value
+     * @param combiner an associative function that combines two values
+     * @param <A> the type of values that are combined
+     * @return a monoid that uses the specified identity and combiner
+     * @throws NullPointerException if combiner is null
+     */
+    static <A> Monoid<A> of(A identity, BinaryOperator<A> combiner) {
+        Objects.requireNonNull(combiner);
+        return new Monoid<>() {
+            @Override
+            public A identity() {
+                return identity;
+            }
+
+            @Override
+            public A combine(A left, A right) {
+                return combiner.apply(left, right);
+            }
+        };
+    }
+
+    /** Returns a monoid that sums {@link Integer}s */
+    static Monoid<Integer> intSum() {
+        return of(0, Integer::sum);
+    }
+
+    /**
+     * Returns a monoid that sums {@link Long}s. Paired with a mapping of {@code e -> 1L}
+     * this may also be used to count values.
+     */
+    static Monoid<Long> longSum() {
+        return of(0L, Long::sum);
+    }
+
+    /**
+     * Returns a monoid that keeps the lesser of two values according to the specified {@code comparator}.
+     * The identity is {@code null}, which represents the absence of a value and is never kept over a present value.
+     *
+     * @param comparator the comparator used to order values
+     * @param <A> the type of values that are compared
+     * @return a monoid that keeps the minimum value
+     * @throws NullPointerException if comparator is null
+     */
+    static <A> Monoid<A> min(Comparator<? super A> comparator) {
+        Objects.requireNonNull(comparator);
+        return of(null, (left, right) -> {
+            if (left == null) return right;
+            if (right == null) return left;
+            return comparator.compare(left, right) <= 0 ? left : right;
+        });
+    }
+
+    /**
+     * Returns a monoid that keeps the greater of two values according to the specified {@code comparator}.
+     * The identity is {@code null}, which represents the absence of a value and is never kept over a present value.
+     *
+     * @param comparator the comparator used to order values
+     * @param <A> the type of values that are compared
+     * @return a monoid that keeps the maximum value
+     * @throws NullPointerException if comparator is null
+     */
+    static <A> Monoid<A> max(Comparator<? super A> comparator) {
+        Objects.requireNonNull(comparator);
+        return min(comparator.reversed());
+    }
+}
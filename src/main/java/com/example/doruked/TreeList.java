@@ -0,0 +1,287 @@
+package com.example.doruked;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * A {@link java.util.List} backed by a balanced binary tree, where an element's position is determined by the
+ * amount of elements to it's left. Unlike an {@link java.util.ArrayList}, inserting or removing at an index does not
+ * shift the elements that follow it. So all positional operations cost {@code O(log n)}.
+ * <p>
+ * This suits lists that are large and frequently modified in the middle. For lists that are small, or mostly
+ * appended to and read, an {@code ArrayList} remains faster.
+ * <p>
+ * Implementation:
+ * The tree is a treap. Each element is given a random priority, and the tree is kept ordered by priority (a parent
+ * has a higher priority than it's children), which keeps it's expected depth logarithmic. Each tree node stores the
+ * size of it's subtree, which allows locating an index.
+ * <p>
+ * Iteration through {@link #iterator()} and {@link #forEach(Consumer)} walks the tree in order, in {@code O(n)}.
+ *
+ * @param <E> the type of elements in this list
+ * @implNote this class is not thread safe. It permits {@code null} elements.
+ */
+public class TreeList<E> extends AbstractList<E> {
+
+    private Entry<E> root;
+
+    public TreeList() {
+    }
+
+    /**
+     * Creates a list containing the elements of the specified {@code collection},
+     * in the order they are returned by it's iterator
+     *
+     * @param collection the elements to contain
+     * @throws NullPointerException if collection is null
+     */
+    public TreeList(Collection<? extends E> collection) {
+        addAll(collection);
+    }
+
+//public operations
+
+    @Override
+    public E get(int index) {
+        return entry(index).value;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Entry<E> entry = entry(index);
+        E previous = entry.value;
+        entry.value = element;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        checkPositionIndex(index);
+        root = insert(root, index, new Entry<>(element, ThreadLocalRandom.current().nextInt()));
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        checkElementIndex(index);
+        Entry<E> removed = entry(index);
+        root = delete(root, index);
+        modCount++;
+        return removed.value;
+    }
+
+    @Override
+    public void clear() {
+        root = null;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expected = modCount;
+        Deque<Entry<E>> stack = new ArrayDeque<>();
+        Entry<E> entry = root;
+        while (entry != null || !stack.isEmpty()) {
+            while (entry != null) {
+                stack.push(entry);
+                entry = entry.left;
+            }
+            entry = stack.pop();
+            action.accept(entry.value);
+            if (modCount != expected) throw new ConcurrentModificationException();
+            entry = entry.right;
+        }
+    }
+
+//helpers
+
+    private Entry<E> entry(int index) {
+        checkElementIndex(index);
+        Entry<E> entry = root;
+        while (true) {
+            int leftSize = sizeOf(entry.left);
+            if (index < leftSize) {
+                entry = entry.left;
+            } else if (index == leftSize) {
+                return entry;
+            } else {
+                index -= leftSize + 1;
+                entry = entry.right;
+            }
+        }
+    }
+
+    /** inserts the specified {@code entry} so that it has {@code index} elements to it's left */
+    private static <E> Entry<E> insert(Entry<E> tree, int index, Entry<E> entry) {
+        if (tree == null) return entry;
+        if (entry.priority > tree.priority) {
+            split(tree, index, entry);
+            entry.update();
+            return entry;
+        }
+        int leftSize = sizeOf(tree.left);
+        if (index <= leftSize) tree.left = insert(tree.left, index, entry);
+        else tree.right = insert(tree.right, index - leftSize - 1, entry);
+        tree.update();
+        return tree;
+    }
+
+    private static <E> Entry<E> delete(Entry<E> tree, int index) {
+        int leftSize = sizeOf(tree.left);
+        if (index == leftSize) return merge(tree.left, tree.right);
+
+        if (index < leftSize) tree.left = delete(tree.left, index);
+        else tree.right = delete(tree.right, index - leftSize - 1);
+        tree.update();
+        return tree;
+    }
+
+    /**
+     * Splits the specified {@code tree} so that it's first {@code index} elements become the left subtree of
+     * the specified {@code into}, and the remaining elements become it's right subtree
+     */
+    private static <E> void split(Entry<E> tree, int index, Entry<E> into) {
+        if (tree == null) {
+            into.left = null;
+            into.right = null;
+            return;
+        }
+        int leftSize = sizeOf(tree.left);
+        if (index <= leftSize) {
+            split(tree.left, index, into);
+            tree.left = into.right;
+            tree.update();
+            into.right = tree;
+        } else {
+            split(tree.right, index - leftSize - 1, into);
+            tree.right = into.left;
+            tree.update();
+            into.left = tree;
+        }
+    }
+
+    /** merges two trees, where every element of {@code left} precedes every element of {@code right} */
+    private static <E> Entry<E> merge(Entry<E> left, Entry<E> right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static int sizeOf(Entry<?> entry) {
+        return (entry == null) ? 0 : entry.size;
+    }
+
+    private void checkElementIndex(int index) {
+        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+
+    private void checkPositionIndex(int index) {
+        if (index < 0 || index > size()) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+
+//inner class
+
+    private static final class Entry<E> {
+        private E value;
+        private final int priority;
+        private int size = 1;
+        private Entry<E> left;
+        private Entry<E> right;
+
+        private Entry(E value, int priority) {
+            this.value = value;
+            this.priority = priority;
+        }
+
+        private void update() {
+            size = 1 + sizeOf(left) + sizeOf(right);
+        }
+    }
+
+    /**
+     * An in-order iterator. It keeps the path to the next element, so that advancing costs {@code O(1)} amortized.
+     * After a removal, the path is rebuilt from the next index in {@code O(log n)}.
+     */
+    private final class Itr implements Iterator<E> {
+        private final Deque<Entry<E>> stack = new ArrayDeque<>();
+        private int nextIndex;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        private Itr() {
+            descendFrom(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size();
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
+
+            Entry<E> entry = stack.pop();
+            for (Entry<E> e = entry.right; e != null; e = e.left) {
+                stack.push(e);
+            }
+            lastReturned = nextIndex++;
+            return entry.value;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) throw new IllegalStateException();
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+
+            TreeList.this.remove(lastReturned);
+            nextIndex = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+            descendFrom(nextIndex);
+        }
+
+        /** rebuilds the path so that the top of the stack is the element at the specified {@code index} */
+        private void descendFrom(int index) {
+            stack.clear();
+            Entry<E> entry = root;
+            while (entry != null) {
+                int leftSize = sizeOf(entry.left);
+                if (index <= leftSize) {
+                    stack.push(entry);
+                    entry = entry.left;
+                } else {
+                    index -= leftSize + 1;
+                    entry = entry.right;
+                }
+            }
+        }
+    }
+}
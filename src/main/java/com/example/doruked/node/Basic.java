@@ -149,6 +149,20 @@ public interface Basic {
             return list;
         }
 
+        /**
+         * Returns the child at the specified {@code index}
+         *
+         * @param index the index of the child
+         * @return the child at the index
+         * @throws IndexOutOfBoundsException if the index is out of range
+         * @implSpec by default, this method retrieves the child from {@link #getChildNodes()}. Implementations
+         * that copy their children to return them should override it, so that a single child is retrieved
+         * without copying the others.
+         */
+        default TNode getChildNodeAt(int index) {
+            return getChildNodes().get(index);
+        }
+
     //query
 
         /**
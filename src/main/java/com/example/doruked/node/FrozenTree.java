@@ -0,0 +1,453 @@
+package com.example.doruked.node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * An immutable copy of a tree, flattened into arrays for read-heavy queries.
+ * <p>
+ * Layout:
+ * The nodes are stored in pre-order (a node, followed by the subtree of each of it's children in order). So, the
+ * descendants of a node occupy the contiguous range {@code [index + 1, end)} that follows it. Each node stores
+ * the index of it's parent and the end of it's subtree. Scanning a subtree is a loop over a slice of an array,
+ * without following references between nodes, and a slice is easily split for parallel processing
+ * (see {@link FrozenNode#streamDescendingData()}).
+ * <p>
+ * Nodes:
+ * Each index of a frozen tree has a single {@link FrozenNode}, created when the tree is frozen, that only holds the
+ * tree and it's index. Every accessor returns these same instances, so a node may be located among it's siblings by
+ * reference, as the {@link com.example.doruked.node.iterators iterators} do. The nodes implement the read-only
+ * methods of {@link Basic.CompatibleNode}. Methods that would modify the tree throw an
+ * {@link UnsupportedOperationException}.
+ * <p>
+ * Order:
+ * Descendants are returned in pre-order. This differs from {@link com.example.doruked.node.mynodes.AbstractNode},
+ * which returns all children of a node before any of their descendants.
+ *
+ * @param <T> the type of data contained by the nodes
+ * @implNote the tree is frozen iteratively, so it may be of any depth. {@code null} children are skipped.
+ * The data itself is not copied, so mutable data remains mutable.
+ */
+public final class FrozenTree<T> {
+
+    private final Object[] data;
+    private final int[] parents;
+    private final int[] ends;
+    private final FrozenNode<T>[] nodes;
+
+    @SuppressWarnings("unchecked")
+    private FrozenTree(Object[] data, int[] parents, int[] ends) {
+        this.data = data;
+        this.parents = parents;
+        this.ends = ends;
+        this.nodes = (FrozenNode<T>[]) new FrozenNode<?>[data.length];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new FrozenNode<>(this, i);
+        }
+    }
+
+//factories
+
+    /**
+     * Creates a frozen copy of the tree beneath the specified {@code head}. The head becomes
+     * the head of the frozen tree, even if it has a parent.
+     *
+     * @param head the node to freeze with it's descendants
+     * @param <T> the type of data contained by the nodes
+     * @param <TNode> the type of the nodes
+     * @return a frozen copy of the tree
+     * @throws NullPointerException if head is null
+     */
+    public static <T, TNode extends Basic.TreeNode<T, TNode>> FrozenTree<T> freeze(TNode head) {
+        Objects.requireNonNull(head);
+        List<Object> data = new ArrayList<>();
+        int[] parents = new int[16];
+
+        Deque<TNode> stack = new ArrayDeque<>();
+        Deque<Integer> parentStack = new ArrayDeque<>();
+        stack.push(head);
+        parentStack.push(-1);
+        while (!stack.isEmpty()) {
+            TNode node = stack.pop();
+            int index = data.size();
+            data.add(node.getData());
+            if (index == parents.length) parents = Arrays.copyOf(parents, index * 2);
+            parents[index] = parentStack.pop();
+
+            List<TNode> children = node.getChildNodes();
+            if (children == null) continue;
+            for (int i = children.size() - 1; i >= 0; i--) {//reversed, so the first child is visited first
+                TNode child = children.get(i);
+                if (child == null) continue;
+                stack.push(child);
+                parentStack.push(index);
+            }
+        }
+
+        int size = data.size();
+        parents = Arrays.copyOf(parents, size);
+        int[] ends = helperSubtreeEnds(parents);
+        return new FrozenTree<>(data.toArray(), parents, ends);
+    }
+
+//public operations
+
+    public FrozenNode<T> getHeadNode() {
+        return nodes[0];
+    }
+
+    /**
+     * Returns the node at the specified {@code index}, in pre-order
+     *
+     * @param index the index of the node
+     * @return the node at the index
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public FrozenNode<T> getNode(int index) {
+        return nodes[Objects.checkIndex(index, data.length)];
+    }
+
+    /**
+     * Returns the first node, in pre-order, that contains data matching the specified {@code predicate}
+     *
+     * @param pred the predicate to match
+     * @return the first matching node, or null if none match
+     */
+    public FrozenNode<T> getNode(Predicate<? super T> pred) {
+        int index = indexOf(pred, 0, data.length);
+        return (index < 0) ? null : nodes[index];
+    }
+
+    public int size() {
+        return data.length;
+    }
+
+//helpers
+
+    /** computes the end of each subtree, by adding the size of each node to it's parent in reverse pre-order */
+    private static int[] helperSubtreeEnds(int[] parents) {
+        int size = parents.length;
+        int[] sizes = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            sizes[i]++;
+            if (parents[i] >= 0) sizes[parents[i]] += sizes[i];
+        }
+        for (int i = 0; i < size; i++) {
+            sizes[i] += i; //becomes the end
+        }
+        return sizes;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T dataAt(int index) {
+        return (T) data[index];
+    }
+
+    private int indexOf(Predicate<? super T> pred, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (pred.test(dataAt(i))) return i;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<T> dataSlice(int from, int to) {
+        return (List<T>) Collections.unmodifiableList(Arrays.asList(data).subList(from, to));
+    }
+
+    private List<FrozenNode<T>> nodeSlice(int from, int to) {
+        return Collections.unmodifiableList(Arrays.asList(nodes).subList(from, to));
+    }
+
+    private List<Integer> childIndices(int index) {
+        List<Integer> children = new ArrayList<>();
+        for (int child = index + 1; child < ends[index]; child = ends[child]) {
+            children.add(child);
+        }
+        return children;
+    }
+
+//inner class
+
+    /**
+     * A node of a {@link FrozenTree}. Each index of a tree has a single node, so two objects are equal only if
+     * they are the same reference.
+     *
+     * @param <T> the type of data contained by the node
+     */
+    public static final class FrozenNode<T> implements Basic.CompatibleNode<T, FrozenNode<T>> {
+
+        private final FrozenTree<T> tree;
+        private final int index;
+
+        private FrozenNode(FrozenTree<T> tree, int index) {
+            this.tree = tree;
+            this.index = index;
+        }
+
+    //public operations
+
+        /**
+         * Returns the position of this node in it's tree, in pre-order
+         *
+         * @return this object's index
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        public FrozenTree<T> getTree() {
+            return tree;
+        }
+
+        @Override
+        public T getData() {
+            return tree.dataAt(index);
+        }
+
+        @Override
+        public FrozenNode<T> getParentNode() {
+            int parent = tree.parents[index];
+            return (parent < 0) ? null : tree.nodes[parent];
+        }
+
+        @Override
+        public FrozenNode<T> getTreeHeadNode() {
+            return tree.nodes[0];
+        }
+
+        @Override
+        public List<FrozenNode<T>> getChildNodes() {
+            List<Integer> indices = tree.childIndices(index);
+            List<FrozenNode<T>> children = new ArrayList<>(indices.size());
+            for (int child : indices) {
+                children.add(tree.nodes[child]);
+            }
+            return children;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @implNote skips the subtrees of the preceding children, without creating a list of children
+         */
+        @Override
+        public FrozenNode<T> getChildNodeAt(int index) {
+            int child = this.index + 1;
+            for (int i = 0; i < index && child < tree.ends[this.index]; i++) {
+                child = tree.ends[child];
+            }
+            if (index < 0 || child >= tree.ends[this.index]) {
+                throw new IndexOutOfBoundsException("Index: " + index);
+            }
+            return tree.nodes[child];
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @implNote the returned list is a view of the tree, that costs {@code O(1)} to create
+         */
+        @Override
+        public List<FrozenNode<T>> getDescendingNodes() {
+            return tree.nodeSlice(index + 1, tree.ends[index]);
+        }
+
+        @Override
+        public List<FrozenNode<T>> getAllNodes() {
+            return tree.nodeSlice(0, tree.data.length);
+        }
+
+        @Override
+        public List<T> getChildData() {
+            List<Integer> indices = tree.childIndices(index);
+            List<T> children = new ArrayList<>(indices.size());
+            for (int child : indices) {
+                children.add(tree.dataAt(child));
+            }
+            return children;
+        }
+
+        @Override
+        public List<T> getSiblingData() {
+            FrozenNode<T> parent = getParentNode();
+            return (parent == null) ? Collections.emptyList() : parent.getChildData();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @implNote the returned list is a view of the tree's data, that costs {@code O(1)} to create
+         */
+        @Override
+        public List<T> getDescendingData() {
+            return tree.dataSlice(index + 1, tree.ends[index]);
+        }
+
+        @Override
+        public List<T> getAllData() {
+            return tree.dataSlice(0, tree.data.length);
+        }
+
+        /**
+         * Returns the data of the descendants that match the specified {@code predicate}, in pre-order
+         *
+         * @param pred the predicate to match
+         * @return the matching data
+         */
+        public List<T> getDescendingIf(Predicate<? super T> pred) {
+            List<T> matches = new ArrayList<>();
+            for (int i = index + 1, end = tree.ends[index]; i < end; i++) {
+                T t = tree.dataAt(i);
+                if (pred.test(t)) matches.add(t);
+            }
+            return matches;
+        }
+
+        /**
+         * Applies the specified {@code action} to the data of each descendant, in pre-order
+         *
+         * @param action the action to apply
+         */
+        public void forEachDescendingData(Consumer<? super T> action) {
+            for (int i = index + 1, end = tree.ends[index]; i < end; i++) {
+                action.accept(tree.dataAt(i));
+            }
+        }
+
+        /**
+         * Returns a stream of the data of the descendants, in pre-order. The stream is sized and splits
+         * evenly, so it may be made parallel efficiently.
+         *
+         * @return a stream of the descendants' data
+         */
+        @SuppressWarnings("unchecked")
+        public Stream<T> streamDescendingData() {
+            return (Stream<T>) Arrays.stream(tree.data, index + 1, tree.ends[index]);
+        }
+
+        /**
+         * Returns the amount of nodes that descend from this object
+         *
+         * @return the amount of descendants
+         */
+        public int getDescendantCount() {
+            return tree.ends[index] - index - 1;
+        }
+
+        //query
+
+        @Override
+        public boolean isLeaf() {
+            return tree.ends[index] == index + 1;
+        }
+
+        @Override
+        public boolean isParent() {
+            return !isLeaf();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @implNote costs {@code O(1)}, as the descendants of a node are a range of indices
+         */
+        @Override
+        public boolean containsDescendant(FrozenNode<T> target) {
+            return target.tree == tree && target.index > index && target.index < tree.ends[index];
+        }
+
+        //unsupported
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public void setParentAs(FrozenNode<T> node) {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public void setParentAs(T data) {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public FrozenNode<T> addChild(FrozenNode<T> node) {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public FrozenNode<T> addChild(T data) {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public FrozenNode<T> addSibling(FrozenNode<T> node) {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public FrozenNode<T> addSibling(T data) {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public void setData(T data) {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public void removeParent() {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public boolean removeChild(FrozenNode<T> target) {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public FrozenNode<T> removeChild(T target) {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public boolean removeSibling(FrozenNode<T> target) {
+            throw unsupported();
+        }
+
+        /** @throws UnsupportedOperationException always */
+        @Override
+        public FrozenNode<T> removeSibling(T target) {
+            throw unsupported();
+        }
+
+        @Override
+        public String toString() {
+            return "FrozenNode(" + index + ": " + getData() + ")";
+        }
+
+    //helpers
+
+        private static UnsupportedOperationException unsupported() {
+            return new UnsupportedOperationException("a FrozenTree can not be modified");
+        }
+    }
+}
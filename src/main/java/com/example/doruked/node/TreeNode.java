@@ -117,7 +117,7 @@ public interface TreeNode<T> extends Basic.TreeNode<T, TreeNode<T>> {
 
     @Override
     default boolean containsDescendant(TreeNode<T> target) {
-        return containsDescendant(target);
+        return Basic.TreeNode.super.containsDescendant(target);
     }
 
     @Override
@@ -0,0 +1,19 @@
+package com.example.doruked.node.iterators;
+
+/**
+ * An iterator whose position can be saved and later restored. The position is expressed as a
+ * {@link NodePath path} to the node that would be returned next. Restoring is done through
+ * the static {@code restore} methods of implementing classes, and costs {@code O(depth)}
+ * rather than re-walking the tree from it's head.
+ *
+ * @see NodePath
+ */
+public interface Checkpointable {
+
+    /**
+     * Returns the path of the node that would be returned next by this iterator
+     *
+     * @return the path of the next node, or null if iteration is complete
+     */
+    int[] checkpoint();
+}
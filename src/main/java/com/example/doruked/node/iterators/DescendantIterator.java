@@ -0,0 +1,160 @@
+package com.example.doruked.node.iterators;
+
+import com.example.doruked.node.mynodes.Node;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This iterator lazily visits the descendants of a {@link Node}, in the same order as
+ * {@link com.example.doruked.node.mynodes.AbstractNode#forEach(java.util.function.Consumer)}.
+ * All children of a node are returned before any of their descendants. Then, the descendants of each child are
+ * returned in the same way, in the order of the children. {@code null} children are skipped.
+ * <p>
+ * Laziness:
+ * Nodes are located as they are requested. No list of results is built, and a node's children are only retrieved
+ * once iteration reaches them. So, stopping early (for example through {@link Stream#findFirst()} or
+ * {@link Stream#limit(long)}) only costs the nodes that were visited.
+ * <p>
+ * Modification:
+ * Children are retrieved through a specified function. If it returns the lists backing each node's children,
+ * modifying the tree while iterating has the same effect as modifying a list while iterating it by index.
+ * If it returns copies, nodes are visited as they were when their parent was reached.
+ *
+ * @param <T> the type of data contained by the nodes
+ */
+public class DescendantIterator<T> implements NodeIterator<Node<T>> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Function<? super Node<T>, ? extends List<Node<T>>> children;
+    private List<?>[] lists = new List<?>[INITIAL_CAPACITY];
+    private int[] indices = new int[INITIAL_CAPACITY];
+    private int depth;
+    private List<Node<T>> emit;
+    private int emitIndex;
+    private Node<T> next;
+    private Node<T> lastReturned;
+
+    /**
+     * Creates an iterator over the descendants of the specified {@code parent}
+     *
+     * @param parent the node whose descendants are iterated
+     * @param includeParent whether the parent is returned before it's descendants
+     * @param children the function used to retrieve the children of a node
+     * @throws NullPointerException if parent or children is null
+     */
+    public DescendantIterator(Node<T> parent, boolean includeParent, Function<? super Node<T>, ? extends List<Node<T>>> children) {
+        this.children = Objects.requireNonNull(children);
+        List<Node<T>> root = Collections.singletonList(Objects.requireNonNull(parent));
+        if (includeParent) emit = root;
+        else push(root);
+    }
+
+    /**
+     * Creates an iterator over the descendants of the specified {@code parent}, that retrieves children
+     * through {@link Node#getChildNodes()}
+     *
+     * @param parent the node whose descendants are iterated
+     * @throws NullPointerException if parent is null
+     */
+    public DescendantIterator(Node<T> parent) {
+        this(parent, false, Node::getChildNodes);
+    }
+
+//static
+
+    /**
+     * Returns a sequential stream backed by a {@link DescendantIterator}
+     *
+     * @param parent the node whose descendants are streamed
+     * @param includeParent whether the parent is streamed before it's descendants
+     * @param children the function used to retrieve the children of a node
+     * @param <T> the type of data contained by the nodes
+     * @return a lazily evaluated stream of the descendants
+     * @throws NullPointerException if parent or children is null
+     */
+    public static <T> Stream<Node<T>> stream(Node<T> parent, boolean includeParent,
+                                             Function<? super Node<T>, ? extends List<Node<T>>> children) {
+        DescendantIterator<T> it = new DescendantIterator<>(parent, includeParent, children);
+        int characteristics = Spliterator.ORDERED | Spliterator.NONNULL;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, characteristics), false);
+    }
+
+//public operations
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        if (next == null) next = advance();
+        return next != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Node<T> next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        lastReturned = next;
+        next = null;
+        return lastReturned;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearData() {
+        if (lastReturned == null) throw new IllegalStateException();
+        lastReturned.setData((T) null);
+    }
+
+//helpers
+
+    @SuppressWarnings("unchecked")
+    private Node<T> advance() {
+        while (true) {
+            if (emit != null) {
+                while (emitIndex < emit.size()) {
+                    Node<T> node = emit.get(emitIndex++);
+                    if (node != null) return node;
+                }
+                push(emit); //descend into the returned nodes
+                emit = null;
+            }
+            if (depth == 0) return null;
+
+            int top = depth - 1;
+            List<Node<T>> list = (List<Node<T>>) lists[top];
+            int index = indices[top];
+            if (index >= list.size()) {//exhausted
+                lists[--depth] = null;
+                continue;
+            }
+            indices[top] = index + 1;
+
+            Node<T> child = list.get(index);
+            if (child == null) continue;
+            List<Node<T>> grandChildren = children.apply(child);
+            if (grandChildren != null && !grandChildren.isEmpty()) {
+                emit = grandChildren;
+                emitIndex = 0;
+            }
+        }
+    }
+
+    private void push(List<?> list) {
+        if (depth == lists.length) {
+            lists = Arrays.copyOf(lists, depth * 2);
+            indices = Arrays.copyOf(indices, depth * 2);
+        }
+        lists[depth] = list;
+        indices[depth] = 0;
+        depth++;
+    }
+}
@@ -21,12 +21,13 @@ import java.util.NoSuchElementException;
  * checked before visiting it'a later siblings. In addition, this iterator will not visit a younger sibling.
  *
  * @param <TNode> the type of nodes traversed
- * @implSpec only implements {@link NodeIterator} for consistency atm. None of the methods
- * are implemented. In the future it is planned to be supported with proper implementations.
+ * @implSpec implements {@link NodeIterator#clearData()} for the last returned node, and {@link Checkpointable},
+ * so an iteration may be resumed through {@link #restore}.
  */
-public class DiveIterator<TNode extends Basic.CompatibleNode<?, TNode>> implements NodeIterator<TNode> {
+public class DiveIterator<TNode extends Basic.CompatibleNode<?, TNode>> implements NodeIterator<TNode>, Checkpointable {
 
     private TNode next;
+    private TNode lastReturned;
 
     public DiveIterator(TNode next) {
         this.next = next;
@@ -77,9 +78,54 @@ public class DiveIterator<TNode extends Basic.CompatibleNode<?, TNode>> implemen
         throw new NoSuchElementException();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException {@inheritDoc}
+     */
     @Override
     public void clearData() {
-        throw new UnsupportedOperationException("This method is not implemented yet");
+        if (lastReturned == null) throw new IllegalStateException();
+        helperClearData(lastReturned);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote as this iterator's next position only depends on the next node, the checkpoint
+     * fully describes it's state
+     */
+    @Override
+    public int[] checkpoint() {
+        return (next == null) ? null : NodePath.pathOf(next);
+    }
+
+//static
+
+    /**
+     * Creates an iterator that resumes from the specified {@code checkpoint}
+     *
+     * @param treeMember a node belonging to the tree that was iterated
+     * @param checkpoint the path returned by {@link #checkpoint()}, or null if iteration was complete
+     * @param <TNode> the type of nodes traversed
+     * @return an iterator at the position described by the checkpoint
+     * @throws NullPointerException if treeMember is null
+     * @throws IndexOutOfBoundsException if the checkpoint does not exist in the tree
+     * @implNote costs {@code O(depth)} for nodes that retrieve a child without copying their children, such as
+     * {@link com.example.doruked.node.mynodes.AbstractNode}. Nodes that only inherit
+     * {@link Basic.TreeNode#getChildNodeAt(int)} copy each child list along the path, which costs the sum of the
+     * fan-out along the path. See {@link NodePath#resolve(Basic.TreeNode, int[])}
+     */
+    public static <TNode extends Basic.CompatibleNode<?, TNode>> DiveIterator<TNode> restore(TNode treeMember, int[] checkpoint) {
+        TNode head = treeMember.getTreeHeadNode();
+        return new DiveIterator<>((checkpoint == null) ? null : NodePath.resolve(head, checkpoint));
+    }
+
+//helpers
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void helperClearData(Basic.DataNode<?, ?> node) {
+        ((Basic.DataNode) node).setData(null); //the data type is unknown, but null is always assignable
     }
 
     private TNode helperNextSibling(TNode target) {
@@ -93,6 +139,7 @@ public class DiveIterator<TNode extends Basic.CompatibleNode<?, TNode>> implemen
     private TNode helperSetNext(TNode target) {
         TNode ret = next;
         next = target;
+        lastReturned = ret;
         return ret;
     }
 
@@ -0,0 +1,79 @@
+package com.example.doruked.node.iterators;
+
+import com.example.doruked.ListUtil;
+import com.example.doruked.node.Basic;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class converts between a {@code node} and it's "path". A path is the vector of child indices that leads
+ * from the {@code tree head} to a node. For example, {@code [1, 0]} is the first child of the head's second child,
+ * and the head itself has an empty path.
+ * <p>
+ * A path is a compact, serializable description of a position in a tree. It remains valid as long as the
+ * nodes along it are not moved, inserted or removed before it.
+ *
+ * @see Checkpointable
+ */
+public final class NodePath {
+
+    private static final int[] EMPTY = new int[0];
+
+    private NodePath() {
+    }
+
+    /**
+     * Returns the path from the {@code tree head} to the specified {@code node}
+     *
+     * @param node the node to get the path of
+     * @param <TNode> the type of node
+     * @return the child indices leading from the tree head to the node
+     * @throws NullPointerException if node is null
+     * @throws IllegalStateException if the node is not contained by it's parent's children
+     * @implNote costs {@code O(depth * siblings)}, as the index of each ancestor is located by reference
+     */
+    public static <TNode extends Basic.TreeNode<?, TNode>> int[] pathOf(TNode node) {
+        Objects.requireNonNull(node);
+        int[] reversed = new int[8];
+        int depth = 0;
+
+        TNode child = node;
+        TNode parent;
+        while ((parent = child.getParentNode()) != null) {
+            int index = ListUtil.getReferenceIndex(parent.getChildNodes(), child);
+            if (index < 0) throw new IllegalStateException("Node(" + child + ") is not a child of it's parent");
+            if (depth == reversed.length) reversed = Arrays.copyOf(reversed, depth * 2);
+            reversed[depth++] = index;
+            child = parent;
+        }
+        if (depth == 0) return EMPTY;
+
+        int[] path = new int[depth];
+        for (int i = 0; i < depth; i++) {
+            path[i] = reversed[depth - 1 - i];
+        }
+        return path;
+    }
+
+    /**
+     * Returns the node located by following the specified {@code path} from the specified {@code head}
+     *
+     * @param head the node the path begins at
+     * @param path the child indices to follow
+     * @param <TNode> the type of node
+     * @return the node at the end of the path
+     * @throws NullPointerException if head or path is null
+     * @throws IndexOutOfBoundsException if the path does not exist in the tree
+     * @implNote costs {@code O(depth)} calls of {@link Basic.TreeNode#getChildNodeAt(int)}. So, the children along
+     * the path are not copied by nodes that override it, such as {@link com.example.doruked.node.mynodes.AbstractNode}
+     */
+    public static <TNode extends Basic.TreeNode<?, TNode>> TNode resolve(TNode head, int[] path) {
+        Objects.requireNonNull(head);
+        TNode node = head;
+        for (int index : path) {
+            node = node.getChildNodeAt(index);
+        }
+        return node;
+    }
+}
@@ -21,7 +21,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * @implSpec at present, this class does not safe guard against concurrent modification,
  * nor are the side effects known/detailed. In the future, this class may change to make operations safer.
  */
-public class SweepIterator<T> implements NodeIterator<Node<T>> {
+public class SweepIterator<T> implements NodeIterator<Node<T>>, Checkpointable {
 
     private AtomicBoolean startedFromHead = null; //atomic just so it can start off null
     private volatile Node<T> current;
@@ -121,6 +121,17 @@ public class SweepIterator<T> implements NodeIterator<Node<T>> {
         lastReturned.setData((T) null);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote besides the next node, this iterator only tracks whether it started at the tree head.
+     * A restored iterator derives that from the position it is restored to.
+     */
+    @Override
+    public int[] checkpoint() {
+        return (current == null) ? null : NodePath.pathOf(current);
+    }
+
 //helpers
 
     private boolean notEmpty(List<?> list){
@@ -226,6 +237,37 @@ public class SweepIterator<T> implements NodeIterator<Node<T>> {
         return fromCurrent(first, SweepIterator.RemoveOption.NORMAL);
     }
 
+    /**
+     * Creates an iterator that resumes from the specified {@code checkpoint}
+     *
+     * @param treeMember a node belonging to the tree that was iterated
+     * @param checkpoint the path returned by {@link #checkpoint()}, or null if iteration was complete
+     * @param option how the iterator should perform removes
+     * @param <T> the data contained by nodes
+     * @return an iterator at the position described by the checkpoint
+     * @throws NullPointerException if treeMember is null
+     * @throws IndexOutOfBoundsException if the checkpoint does not exist in the tree
+     * @implNote costs {@code O(depth)}, see {@link NodePath#resolve(com.example.doruked.node.Basic.TreeNode, int[])}
+     */
+    public static <T> SweepIterator<T> restore(Node<T> treeMember, int[] checkpoint, SweepIterator.RemoveOption option) {
+        Node<T> head = treeMember.getTreeHeadNode();
+        if (checkpoint == null) return new SweepIterator<>(null, option);
+        return fromCurrent(NodePath.resolve(head, checkpoint), option);
+    }
+
+    /**
+     * Creates an iterator that resumes from the specified {@code checkpoint}
+     *
+     * @param treeMember a node belonging to the tree that was iterated
+     * @param checkpoint the path returned by {@link #checkpoint()}, or null if iteration was complete
+     * @param <T> the data contained by nodes
+     * @return an iterator at the position described by the checkpoint
+     * @see #restore(Node, int[], RemoveOption)
+     */
+    public static <T> SweepIterator<T> restore(Node<T> treeMember, int[] checkpoint) {
+        return restore(treeMember, checkpoint, SweepIterator.RemoveOption.NORMAL);
+    }
+
 //inner class
 
     public enum RemoveOption {
@@ -1,15 +1,17 @@
 package com.example.doruked.node.mynodes;
 
 import com.example.doruked.ListUtil;
+import com.example.doruked.node.iterators.DescendantIterator;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Objects;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 //overrding a method using a "helper" means that method may no longer be affected by changes to that helper method
 //not competely safe to publish, nodes as they can be removed leaving the tree in an inconsistent state
 //can refactor them to be "views"
@@ -168,11 +170,19 @@ public abstract class AbstractNode<T> implements Node<T> {
         return treeHead;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote retrieves the child from {@link #hGetChildNodes()}, so the children are not copied
+     */
+    @Override
+    public Node<T> getChildNodeAt(int index) {
+        return hGetChildNodes().get(index);
+    }
+
     @Override
     public List<T> getChildData() {
-        List<T> list = new ArrayList<>();
-        helperForEachDescendant(this, e-> list.add(e.getData()));
-        return list;
+        return helperGetDescending(this, Node::getData);
     }
 
 //find
@@ -187,23 +197,24 @@ public abstract class AbstractNode<T> implements Node<T> {
      */
     @Override
     public Node<T> getNode(Predicate<? super Node<T>> pred) {
-        AtomicReference<Node<T>> result = new AtomicReference<>(null);
-        helperIterateAll(node -> {
-            if (pred.test(node)) {
-                result.set(node);
-                return true;
-            }
-            return false;
-        });
-        return result.get();
+        TreeWalker walker = TreeWalker.acquire();
+        try {
+            helperIterateAll(walker.finding(pred));
+            return walker.found();
+        } finally {
+            walker.release();
+        }
     }
 
     @Override
     public List<Node<T>> getNodeIf(Predicate<? super Node<T>> pred) {
-        return helperGetIf((node, list) -> {
-            if (pred.test(node))
-                list.add(node);
-        });
+        Objects.requireNonNull(pred);
+        TreeWalker walker = TreeWalker.acquire();
+        try {
+            return helperGetIf(walker.filtering(Function.identity(), pred));
+        } finally {
+            walker.release();
+        }
     }
 
     public Node<T> getChild(Predicate<? super Node<T>> pred) { //requires being added
@@ -249,13 +260,37 @@ public abstract class AbstractNode<T> implements Node<T> {
 
     @Override
     public List<T> getDataIf(Predicate<? super Node<T>> pred) {
-        return helperGetIf((node, list) -> {
-            if (pred.test(node)) {
-                list.add(node.getData());
-            }
-        });
+        Objects.requireNonNull(pred);
+        TreeWalker walker = TreeWalker.acquire();
+        try {
+            return helperGetIf(walker.filtering(Node::getData, pred));
+        } finally {
+            walker.release();
+        }
+    }
+
+
+//stream
+
+    /**
+     * {@inheritDoc}
+     * @implSpec children are read through {@link #hGetChildNodes()} where possible, so that streaming
+     * does not copy any child lists
+     */
+    @Override
+    public Stream<Node<T>> streamDescendingNodes() {
+        return DescendantIterator.stream(this, false, TreeWalker::childrenOf);
     }
 
+    /**
+     * {@inheritDoc}
+     * @implSpec children are read through {@link #hGetChildNodes()} where possible, so that streaming
+     * does not copy any child lists
+     */
+    @Override
+    public Stream<Node<T>> streamAllNodes() {
+        return DescendantIterator.stream(getTreeHeadNode(), true, TreeWalker::childrenOf);
+    }
 
 //abstract
 
@@ -351,7 +386,12 @@ public abstract class AbstractNode<T> implements Node<T> {
      */
     protected <U> List<U> helperGetIf(BiConsumer<? super Node<T>, List<U>> cons){
         List<U> filtered = new ArrayList<>();
-        forEach(e-> cons.accept(e, filtered));
+        TreeWalker walker = TreeWalker.acquire();
+        try {
+            forEach(walker.binding(cons, filtered));
+        } finally {
+            walker.release();
+        }
         return filtered;
     }
 
@@ -369,7 +409,12 @@ public abstract class AbstractNode<T> implements Node<T> {
      */
     protected <R> List<R> helperGetDescending(Node<T> head, Function<? super Node<T>, ? extends R> converter) {
         List<R> list = new ArrayList<>();
-        helperForEachDescendant(head, e -> list.add(converter.apply(e)));
+        TreeWalker walker = TreeWalker.acquire();
+        try {
+            helperForEachDescendant(head, walker.collecting(list, converter, null));
+        } finally {
+            walker.release();
+        }
         return list;
     }
 
@@ -385,11 +430,14 @@ public abstract class AbstractNode<T> implements Node<T> {
      * @throws NullPointerException if a null argument is received
      */
     protected <R> List<R> helperGetDescendingIf(Node<T> head, Function<? super Node<T>, ? extends R> converter, Predicate<? super Node<T>> pred) {
+        Objects.requireNonNull(pred);
         List<R> list = new ArrayList<>();
-        helperForEachDescendant(head, e -> {
-            if (pred.test(e))
-            list.add(converter.apply(e));
-        });
+        TreeWalker walker = TreeWalker.acquire();
+        try {
+            helperForEachDescendant(head, walker.collecting(list, converter, pred));
+        } finally {
+            walker.release();
+        }
         return list;
     }
 
@@ -403,11 +451,13 @@ public abstract class AbstractNode<T> implements Node<T> {
      * @implSpec by default, only used by other helpers
      */
     protected void helperForEachDescendant(Node<T> parent, Consumer<? super Node<T>> cons) {
-        Predicate<Node<T>> forEach = (node) -> {
-            cons.accept(node);
-            return false; //false constant causes helperIterateDescendants to check all nodes
-        };
-        helperIterateDescendants(parent, forEach);
+        TreeWalker walker = TreeWalker.acquire();
+        try {
+            //the consuming predicate always returns false, which causes helperIterateDescendants to check all nodes
+            helperIterateDescendants(parent, walker.consuming(cons));
+        } finally {
+            walker.release();
+        }
     }
 
     /**
@@ -437,17 +487,14 @@ public abstract class AbstractNode<T> implements Node<T> {
      * will be returned. Which object is retrieved first is an implementation detail, and doesn't promise to remain
      * consistent in the face of search pattern changes.
      * <p>
-     * Search Pattern: This method iteratively checks all nodes for a match. The "head" of the search begins at the
-     * specified {@code parent}. The method checks the head's immediate children, then sets the head to be at it's first child
-     * This continues as the method goes deeper, until a dead end is reached. At this point the method has two
-     * recovery behaviors. (1) Go to a side node (set the heads to it's next {@code non-null} sibling node). If that fails
-     * (2) Reset head to parent, then set the head the next {@code non-null} sibling node.
-     * <p>
-     * If either of these behaviors are successful, the method continues to search deeper. When these recovery
-     * can no longer produce a {@code non-null} result, the method fails and returns {@code false
+     * Search Pattern: This method iteratively checks all nodes for a match, without leaving the subtree of the
+     * specified {@code parent}. All children of a node are checked before any of their descendants. Then the
+     * descendants of each child are searched in the same way, in the order of the children. {@code null} children
+     * are skipped.
      * <p>
-     * Consistency: This method doesn't aim to be particularly performant. However, this method may change in the
-     * future for faster means of acquiring nodes. It's not a priority though.
+     * Consistency: The traversal is performed by a pooled {@link TreeWalker}, which tracks it's position with an
+     * explicit stack. Searching makes no allocations once a thread's walkers have been created, and is not
+     * limited by the depth of the tree.
      * @implSpec by default, only used by other helpers. Override this method to change how iteration occurs for
      * any method that potentially requires traversing more than one layer of the {@code tree}. This method embodies
      * the logic of how this class traverses.
@@ -456,61 +503,11 @@ public abstract class AbstractNode<T> implements Node<T> {
      * However, a given predicate doesn't need to attempt to return true.
      */
     protected boolean helperIterateDescendants(Node<T> parent, Predicate<? super Node<T>> pred) { //used in multiple places
-        Node<T> node = parent;
-
-        while (true) {
-            //1.) define search target
-            List<Node<T>> search = node.getChildNodes();
-
-            //1.A?) manage backtracking
-            int backTrackIndex = 0;
-            while (search == null || search.size() < 1) {
-                Node<T> backTrack = node.getParentNode();
-                if (backTrack == null) return false;
-                search = backTrack.getChildNodes();
-                backTrackIndex++;
-                if (backTrackIndex < search.size()) {
-
-                    Node<T> sidePath = search.get(backTrackIndex);
-                    if (sidePath != null) {
-                        node = sidePath;
-                        search = node.getChildNodes();
-                    }
-                } else {//no side paths found
-                   //reset tracking
-                    backTrackIndex = 0;
-
-                    //go to my parents next sibling
-                    while (true) {
-                        Node<T> btParent = backTrack.getParentNode();
-                        if (btParent == null) return false;
-                        List<Node<T>> btSiblings = btParent.getChildNodes();
-                        int nextIndex = 1 + ListUtil.getReferenceIndex(btSiblings, backTrack);
-                        if (nextIndex < btSiblings.size()) {
-
-                            node = btSiblings.get(nextIndex);
-                            search = node.getChildNodes();
-                            break;
-                        } else {//try search from higher
-                            backTrack = backTrack.getParentNode();
-                            if (backTrack == null) return false;
-                        }
-                    }
-                }
-            }
-
-            //2.) check nodes
-            for (Node<T> child : search) {
-                if (pred.test(child)){
-                    return true;
-                }
-            }
-
-            //3.) delve deeper
-            Node<T> deeper = search.get(0); //only delves at "0" and relies on backtracking to correct targets
-            if (deeper != null) {
-                node = deeper;
-            }
+        TreeWalker walker = TreeWalker.acquire();
+        try {
+            return walker.walk(parent, pred);
+        } finally {
+            walker.release();
         }
     }
 
@@ -0,0 +1,224 @@
+package com.example.doruked.node.mynodes;
+
+import com.example.doruked.Monoid;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A {@link MyNode} that maintains an aggregate of the data contained by it's subtree (itself and it's descendants).
+ * The aggregate is produced by applying a {@code mapper} to each node's data, then reducing the mapped values
+ * with a {@link Monoid}. For example, a mapper of {@code e -> 1L} and {@link Monoid#longSum()} counts the
+ * nodes of a subtree.
+ * <p>
+ * Caching:
+ * Each node caches the aggregate of it's subtree. Once computed, retrieving it is {@code O(1)} until the subtree is
+ * modified. A modification (changing data, adding or removing children) marks the modified node and it's ancestors
+ * as "dirty". The next retrieval only recomputes the dirty nodes, reusing the cached aggregates of every subtree
+ * that was left unmodified. So a change to a single node costs {@code O(depth)} recomputations, rather than
+ * a walk of the entire subtree.
+ * <p>
+ * The dirty state maintains that if a node is dirty, so are all of it's aggregated ancestors. This allows marking to
+ * stop at the first aggregated ancestor that is already dirty.
+ * <p>
+ * Compatibility:
+ * A node is only aggregated with nodes that are {@code AggregateNode AggregateNodes} sharing it's mapper and monoid
+ * (the same references). Other nodes in the tree are "foreign". A foreign subtree is aggregated by a full walk of it's
+ * data on each recomputation, and a foreign ancestor does not stop marking, so aggregated nodes above it are still
+ * marked dirty.
+ *
+ * @param <T> the type of data contained by the node
+ * @param <A> the type of the aggregate
+ * @implNote nodes added to this object are copied, with their descendants, as {@code AggregateNodes} sharing this
+ * object's mapper and monoid. So, adding a subtree costs {@code O(n)} of it's size, and the added subtree is never
+ * foreign. Modifications made to a foreign node, or directly to the list returned by {@link #hGetChildNodes()}, are
+ * not tracked, and leave the aggregates of it's ancestors stale until another modification marks them dirty.
+ */
+@NotThreadSafe
+public class AggregateNode<T, A> extends MyNode<T> {
+
+    private final Function<? super T, ? extends A> mapper;
+    private final Monoid<A> monoid;
+    private A aggregate;
+    private boolean dirty = true;
+
+    public AggregateNode(T data, Function<? super T, ? extends A> mapper, Monoid<A> monoid) {
+        this(data, null, new ArrayList<>(), mapper, monoid);
+    }
+
+    protected AggregateNode(T data, Node<T> parent, List<Node<T>> children, Function<? super T, ? extends A> mapper, Monoid<A> monoid) {
+        super(data, parent, children);
+        this.mapper = Objects.requireNonNull(mapper);
+        this.monoid = Objects.requireNonNull(monoid);
+    }
+
+//public operations
+
+    /**
+     * Returns the aggregate of this object's subtree, which consists of this object and it's descendants.
+     *
+     * @return the aggregate of this object's subtree
+     * @implNote only the dirty nodes of the subtree are recomputed. Recomputation is iterative,
+     * so it is not limited by the depth of the tree.
+     */
+    public A getAggregate() {
+        if (!dirty) return aggregate;
+
+        //collect dirty nodes (pre-order). A parent always occurs before it's descendants
+        List<AggregateNode<T, A>> recompute = new ArrayList<>();
+        Deque<AggregateNode<T, A>> stack = new ArrayDeque<>();
+        stack.push(this);
+        while (!stack.isEmpty()) {
+            AggregateNode<T, A> node = stack.pop();
+            recompute.add(node);
+            for (Node<T> child : node.hGetChildNodes()) {
+                AggregateNode<T, A> aggregated = asAggregated(child);
+                if (aggregated != null && aggregated.dirty) stack.push(aggregated);
+            }
+        }
+
+        //reverse order guarantees descendants are recomputed before their ancestors
+        for (int i = recompute.size() - 1; i > -1; i--) {
+            recompute.get(i).helperRecompute();
+        }
+        return aggregate;
+    }
+
+    /**
+     * Returns the aggregate of this object's entire tree. If the head of the tree is foreign, the aggregate
+     * of the highest compatible ancestor is returned instead, which includes every node beneath it.
+     *
+     * @return the aggregate of the tree this object belongs to
+     * @see #getAggregate()
+     */
+    public A getTreeAggregate() {
+        AggregateNode<T, A> highest = this;
+        for (Node<T> node = getParentNode(); node != null; node = node.getParentNode()) {
+            AggregateNode<T, A> ancestor = asAggregated(node);
+            if (ancestor != null) highest = ancestor;
+        }
+        return highest.getAggregate();
+    }
+
+    /**
+     * Returns whether this object's aggregate must be recomputed before it is returned
+     *
+     * @return true if the cached aggregate is out of date, false if not
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    @Override
+    public void setData(T t) {
+        super.setData(t);
+        invalidate();
+    }
+
+    @Override
+    public Node<T> removeChild(int index) {
+        Node<T> removed = super.removeChild(index);
+        invalidate();
+        return removed;
+    }
+
+//protected
+
+    @Override
+    protected Node<T> create(T data) {
+        return new AggregateNode<>(data, mapper, monoid);
+    }
+
+    @Override
+    protected Node<T> helperAddChild(Node<T> child, int index) {
+        Node<T> added = super.helperAddChild(child, index);
+        invalidate();
+        return added;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec copies the specified child and each of it's descendants, so that every node of the copy belongs to,
+     * and is aggregated by, this object's tree. The specified child is not modified.
+     */
+    @Override
+    protected Node<T> helperCopy(Node<T> child) {
+        AggregateNode<T, A> copy = helperCreate(child.getData(), this);
+        Deque<Node<T>> sources = new ArrayDeque<>();
+        Deque<AggregateNode<T, A>> copies = new ArrayDeque<>();
+        sources.push(child);
+        copies.push(copy);
+        while (!sources.isEmpty()) {
+            Node<T> source = sources.pop();
+            AggregateNode<T, A> target = copies.pop();
+            for (Node<T> descendant : source.getChildNodes()) {
+                AggregateNode<T, A> descendantCopy = helperCreate(descendant.getData(), target);
+                target.hGetChildNodes().add(descendantCopy);
+                sources.push(descendant);
+                copies.push(descendantCopy);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Marks this object and it's aggregated ancestors as dirty, so that their aggregates are recomputed on next
+     * retrieval. Foreign ancestors are climbed past. Marking stops at the first aggregated ancestor that is already
+     * dirty, as it's aggregated ancestors are dirty as well.
+     */
+    protected void invalidate() {
+        dirty = true;
+        for (Node<T> node = getParentNode(); node != null; node = node.getParentNode()) {
+            AggregateNode<T, A> ancestor = asAggregated(node);
+            if (ancestor == null) continue;
+            if (ancestor.dirty) return;
+            ancestor.dirty = true;
+        }
+    }
+
+//helpers
+
+    /**
+     * Recomputes this object's aggregate from it's data and the aggregates of it's children.
+     *
+     * @implSpec expects that the aggregates of aggregated children are not dirty
+     */
+    private void helperRecompute() {
+        A result = mapper.apply(getData());
+        for (Node<T> child : hGetChildNodes()) {
+            result = monoid.combine(result, helperAggregateOf(child));
+        }
+        aggregate = result;
+        dirty = false;
+    }
+
+    private A helperAggregateOf(Node<T> child) {
+        AggregateNode<T, A> aggregated = asAggregated(child);
+        if (aggregated != null) return aggregated.aggregate;
+
+        A result = mapper.apply(child.getData());
+        for (T data : child.getDescendingData()) {
+            result = monoid.combine(result, mapper.apply(data));
+        }
+        return result;
+    }
+
+    private AggregateNode<T, A> helperCreate(T data, Node<T> parent) {
+        return new AggregateNode<>(data, parent, new ArrayList<>(), mapper, monoid);
+    }
+
+    /** returns the specified node, if it is aggregated with this object, or null if it is foreign */
+    @SuppressWarnings("unchecked")
+    private AggregateNode<T, A> asAggregated(Node<T> node) {
+        if (!(node instanceof AggregateNode)) return null;
+        AggregateNode<?, ?> aggregated = (AggregateNode<?, ?>) node;
+        if (aggregated.mapper != mapper || aggregated.monoid != monoid) return null;
+        return (AggregateNode<T, A>) node;
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.doruked.node.mynodes;
+
+import com.example.doruked.ListUtil;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An implementation of {@link AbstractNode} whose instances are allocated and reused by a {@link NodeArena}.
+ * It behaves like {@link MyNode}, except that every node it creates is allocated from it's arena.
+ * Instances are obtained through {@link NodeArena#allocate(Object)}.
+ * <p>
+ * Reuse:
+ * When a node is reused, it keeps it's list of children (cleared), so the list's backing array is reused as well.
+ *
+ * @param <T> the type of data contained by the node
+ * @see NodeArena
+ */
+@NotThreadSafe
+public class ArenaNode<T> extends AbstractNode<T> {
+
+    private final NodeArena<T> arena;
+    private final List<Node<T>> children = new ArrayList<>(0);
+    private T data;
+    private Node<T> parent;
+    private int generation = -1;
+
+    ArenaNode(NodeArena<T> arena) {
+        this.arena = arena;
+    }
+
+//public operations
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec works the same as {@link MyNode#setParentAs(Node)}
+     */
+    @Override
+    public void setParentAs(Node<T> node) {
+        if (parent != null) {
+            int myIndex = ListUtil.getReferenceIndex(parent.getChildNodes(), this);
+            if (myIndex > -1) parent.removeChild(myIndex);
+        }
+        parent = node;
+        if (parent != null) parent.addChild(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote the added node is allocated directly as this object's child, rather than
+     * being created then copied
+     */
+    @Override
+    public Node<T> addChild(T data) {
+        return addChild(data, children.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote the added node is allocated directly as this object's child, rather than
+     * being created then copied
+     */
+    @Override
+    public Node<T> addChild(T data, int index) {
+        checkCurrent();
+        if (index < 0 || index > children.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + children.size());
+        }
+        ArenaNode<T> child = arena.allocate(data, this);
+        children.add(index, child);
+        return child;
+    }
+
+    @Override
+    public void setData(T t) {
+        data = t;
+    }
+
+    @Override
+    public T getData() {
+        return data;
+    }
+
+    @Override
+    public Node<T> getParentNode() {
+        return parent;
+    }
+
+    @Override
+    public List<Node<T>> getChildNodes() {
+        return List.copyOf(children);
+    }
+
+    /**
+     * Returns the arena this node was allocated from
+     *
+     * @return this object's arena
+     */
+    public NodeArena<T> getArena() {
+        return arena;
+    }
+
+    /**
+     * Returns whether this node was allocated before it's arena was last released
+     *
+     * @return true if this node must no longer be used, false if not
+     */
+    public boolean isStale() {
+        return !arena.isCurrent(generation);
+    }
+
+//protected
+
+    @Override
+    protected List<Node<T>> hGetChildNodes() {
+        return children;
+    }
+
+    @Override
+    protected Node<T> create(T data) {
+        checkCurrent();
+        return arena.allocate(data);
+    }
+
+    @Override
+    protected int defaultAddIndex() {
+        return children.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index > size()})
+     * @throws IllegalStateException if this node is stale
+     * @return the added node that is a copied from the specified {@code child}
+     * @implSpec adds a copy of the specified {@code child} and each of it's descendants, allocated from this
+     * object's arena. So, every node of the copy belongs to this object's tree. The specified child is not modified.
+     * The index is validated before any node is allocated. This mirrors {@link MyNode#helperAddChild(Node, int)}
+     */
+    @Override
+    protected Node<T> helperAddChild(Node<T> child, int index) {
+        Objects.requireNonNull(child);
+        checkCurrent();
+        if (index < 0 || index > children.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + children.size());
+        }
+        ArenaNode<T> copy = arena.allocate(child.getData(), this);
+        Deque<Node<T>> sources = new ArrayDeque<>();
+        Deque<ArenaNode<T>> copies = new ArrayDeque<>();
+        sources.push(child);
+        copies.push(copy);
+        while (!sources.isEmpty()) {
+            Node<T> source = sources.pop();
+            ArenaNode<T> target = copies.pop();
+            for (Node<T> descendant : source.getChildNodes()) {
+                ArenaNode<T> descendantCopy = arena.allocate(descendant.getData(), target);
+                target.children.add(descendantCopy);
+                sources.push(descendant);
+                copies.push(descendantCopy);
+            }
+        }
+
+        children.add(index, copy);
+        return copy;
+    }
+
+//package-private
+
+    void reset(T data, Node<T> parent, int generation) {
+        this.data = data;
+        this.parent = parent;
+        this.generation = generation;
+        children.clear();
+    }
+
+//helpers
+
+    private void checkCurrent() {
+        if (isStale()) throw new IllegalStateException("Node(" + this + ") was released by it's arena");
+    }
+}
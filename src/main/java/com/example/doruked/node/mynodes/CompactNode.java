@@ -0,0 +1,260 @@
+package com.example.doruked.node.mynodes;
+
+import com.example.doruked.ListUtil;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An implementation of {@link AbstractNode} that is designed to use little memory for nodes with few children.
+ * It behaves like {@link MyNode}, but stores it's children differently.
+ * <p>
+ * Storage:
+ * Up to two children are stored inline, within fields of this object. No collection is allocated for leaves
+ * or for nodes that have one or two children. When a third child is added, the children "inflate" to a list
+ * backed by an array. Once inflated, the children return to being stored inline when a single child remains.
+ * The gap between inflating and deflating prevents alternating adds and removes from repeatedly allocating.
+ * <p>
+ * Creation:
+ * This class provides it's storage through {@link #create(Object)} and {@link #helperAddChild(Node, int)}.
+ * So, a tree that is grown from a {@code CompactNode} consists only of compact nodes.
+ *
+ * @param <T> the type of data contained by the node
+ * @implNote this node does not accept {@code null} children
+ */
+@NotThreadSafe
+public class CompactNode<T> extends AbstractNode<T> {
+
+    private static final int DEFLATE_SIZE = 1;
+
+    private T data;
+    private Node<T> parent;
+    private Node<T> first;
+    private Node<T> second;
+    private List<Node<T>> overflow;
+
+    public CompactNode(T data) {
+        this.data = data;
+    }
+
+    public CompactNode(T data, Node<T> parent) {
+        this.data = data;
+        this.parent = parent;
+    }
+
+    /**
+     * Creates a node that stores the specified {@code children}. The specified list
+     * is copied and is not used to back this object's children.
+     *
+     * @param data the data to contain
+     * @param parent the parent of this node
+     * @param children the children to store
+     * @throws NullPointerException if children is null or contains a null element
+     */
+    public CompactNode(T data, Node<T> parent, List<Node<T>> children) {
+        this(data, parent);
+        List<Node<T>> store = new Children();
+        for (Node<T> child : children) {
+            store.add(child);
+        }
+    }
+
+//public operations
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec works the same as {@link MyNode#setParentAs(Node)}
+     */
+    @Override
+    public void setParentAs(Node<T> node) {
+        if (parent != null) {
+            int myIndex = ListUtil.getReferenceIndex(parent.getChildNodes(), this);
+            if (myIndex > -1) parent.removeChild(myIndex);
+        }
+        parent = node;
+        if (parent != null) parent.addChild(this);
+    }
+
+    @Override
+    public void setData(T t) {
+        data = t;
+    }
+
+    @Override
+    public T getData() {
+        return data;
+    }
+
+    @Override
+    public Node<T> getParentNode() {
+        return parent;
+    }
+
+    @Override
+    public List<Node<T>> getChildNodes() {
+        if (overflow != null) return List.copyOf(overflow);
+        if (first == null) return List.of();
+        if (second == null) return List.of(first);
+        return List.of(first, second);
+    }
+
+    /**
+     * Returns whether this object's children are stored in an array backed list,
+     * rather than inline.
+     *
+     * @return true if children are stored in a list, false if stored inline
+     */
+    public boolean isInflated() {
+        return overflow != null;
+    }
+
+//protected
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote the returned list is a view of this object's fields, created on demand so that it does not
+     * occupy a field of every node. Creating it does not copy any children.
+     */
+    @Override
+    protected List<Node<T>> hGetChildNodes() {
+        return new Children();
+    }
+
+    @Override
+    protected Node<T> create(T data) {
+        return new CompactNode<>(data);
+    }
+
+    @Override
+    protected int defaultAddIndex() {
+        return childCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IndexOutOfBoundsException if the index is out of range
+     *         ({@code index < 0 || index > size()})
+     * @return the added node that is a copied from the specified {@code child}
+     * @implSpec adds a copy of the specified {@code child}, but with an updated parent.
+     * This mirrors {@link MyNode#helperAddChild(Node, int)}
+     */
+    @Override
+    protected Node<T> helperAddChild(Node<T> child, int index) {
+        Objects.requireNonNull(child);
+        Node<T> copy = new CompactNode<>(child.getData(), this, child.getChildNodes());
+
+        new Children().add(index, copy);
+        return copy;
+    }
+
+//helpers
+
+    private int childCount() {
+        if (overflow != null) return overflow.size();
+        if (first == null) return 0;
+        return (second == null) ? 1 : 2;
+    }
+
+//inner class
+
+    /**
+     * A list view of the children stored by the enclosing node. Modifying this list
+     * modifies the enclosing node's children. The list inflates and deflates the
+     * enclosing node's storage as needed.
+     */
+    private class Children extends AbstractList<Node<T>> implements RandomAccess {
+
+        @Override
+        public Node<T> get(int index) {
+            if (overflow != null) return overflow.get(index);
+            checkIndex(index, childCount());
+            return (index == 0) ? first : second;
+        }
+
+        @Override
+        public int size() {
+            return childCount();
+        }
+
+        @Override
+        public Node<T> set(int index, Node<T> element) {
+            Objects.requireNonNull(element);
+            if (overflow != null) return overflow.set(index, element);
+
+            checkIndex(index, childCount());
+            Node<T> previous;
+            if (index == 0) {
+                previous = first;
+                first = element;
+            } else {
+                previous = second;
+                second = element;
+            }
+            return previous;
+        }
+
+        @Override
+        public void add(int index, Node<T> element) {
+            Objects.requireNonNull(element);
+            modCount++;
+            if (overflow != null) {
+                overflow.add(index, element);
+                return;
+            }
+            int size = childCount();
+            checkIndex(index, size + 1);
+
+            if (size == 2) {//inflate
+                overflow = new ArrayList<>(4);
+                overflow.add(first);
+                overflow.add(second);
+                overflow.add(index, element);
+                first = second = null;
+            } else if (index == 0) {
+                second = first;
+                first = element;
+            } else if (size == 0) {
+                first = element;
+            } else {
+                second = element;
+            }
+        }
+
+        @Override
+        public Node<T> remove(int index) {
+            modCount++;
+            if (overflow != null) {
+                Node<T> removed = overflow.remove(index);
+                if (overflow.size() <= DEFLATE_SIZE) {//deflate
+                    first = overflow.isEmpty() ? null : overflow.get(0);
+                    overflow = null;
+                }
+                return removed;
+            }
+            checkIndex(index, childCount());
+
+            Node<T> removed;
+            if (index == 0) {
+                removed = first;
+                first = second;
+            } else {
+                removed = second;
+            }
+            second = null;
+            return removed;
+        }
+
+        private void checkIndex(int index, int bound) {
+            if (index < 0 || index >= bound) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + childCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.doruked.node.mynodes;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link MyNode} designed for degenerate trees, such as chains that are millions of nodes deep.
+ * <p>
+ * Head lookup:
+ * {@link #getTreeHeadNode()} is used by every operation that visits the entire tree, such as {@link #forEach}.
+ * For most nodes it climbs every ancestor, which costs {@code O(depth)} per call. This class caches the head
+ * instead. Each head holds a structure version, which changes whenever a node of it's tree is given a different
+ * parent. A cached head is used only while it has no parent and it's version is the one that was cached. So,
+ * a cached head costs {@code O(1)} to retrieve, and changing one tree does not invalidate the caches of another.
+ * <p>
+ * When the cache is invalid, the ancestors are climbed until the head, or an ancestor with a valid cache, is
+ * reached. Every node that was climbed then caches the result ("path compression"). So, after the structure
+ * changes, the next lookups cost {@code O(depth)} once per path rather than once per node. A new node that is
+ * added to a cached parent is resolved through it's parent in {@code O(1)}.
+ * <p>
+ * Traversal:
+ * Like other {@link AbstractNode nodes}, traversals track their position with an explicit stack
+ * (see {@link TreeWalker}), and are not limited by the depth of the tree.
+ *
+ * @param <T> the type of data contained by the node
+ * @implNote caching relies on every node of the tree being a {@code DeepNode}. If another type of node is given
+ * a different parent, nodes beneath it may return a stale head. Nodes added to this object are copied as a
+ * {@code DeepNode}, so a tree grown from a {@code DeepNode} meets this requirement.
+ */
+@NotThreadSafe
+public class DeepNode<T> extends MyNode<T> {
+
+    /** changes whenever a node of the tree headed by this object is given a different parent */
+    private long structureVersion;
+
+    private DeepNode<T> head;
+    private long headVersion;
+
+    public DeepNode(T data) {
+        this(data, null, new ArrayList<>(1));
+    }
+
+    protected DeepNode(T data, Node<T> parent, List<Node<T>> children) {
+        super(data, parent, children);
+    }
+
+//public operations
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec invalidates the cached heads of the tree this object is removed from
+     */
+    @Override
+    public void setParentAs(Node<T> node) {
+        Node<T> oldHead = getTreeHeadNode();
+        try {
+            super.setParentAs(node);
+        } finally {
+            if (oldHead instanceof DeepNode) ((DeepNode<T>) oldHead).structureVersion++;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote costs {@code O(1)} if the head is cached. Otherwise, the ancestors are climbed and cache
+     * the result
+     */
+    @Override
+    public Node<T> getTreeHeadNode() {
+        if (helperIsCached()) return head;
+
+        //find the head, or an ancestor that knows it
+        Node<T> found = null;
+        Node<T> current = this;
+        while (found == null) {
+            Node<T> parent = current.getParentNode();
+            if (parent == null) {
+                found = current;
+            } else if (parent == current) {
+                throw new IllegalStateException("Node(" + current + ") contains itself as parent");
+            } else if (parent instanceof DeepNode && ((DeepNode<T>) parent).helperIsCached()) {
+                found = ((DeepNode<T>) parent).head;
+            } else {
+                current = parent;
+            }
+        }
+        if (!(found instanceof DeepNode)) return found; //no version to validate against
+
+        //compress the climbed path
+        DeepNode<T> deepHead = (DeepNode<T>) found;
+        for (Node<T> node = this; ; node = node.getParentNode()) {
+            if (node instanceof DeepNode) {
+                DeepNode<T> deep = (DeepNode<T>) node;
+                deep.head = deepHead;
+                deep.headVersion = deepHead.structureVersion;
+            }
+            if (node == current) break;
+        }
+        return found;
+    }
+
+//protected
+
+    @Override
+    protected Node<T> create(T data) {
+        return new DeepNode<>(data);
+    }
+
+    @Override
+    protected Node<T> helperCopy(Node<T> child) {
+        return new DeepNode<>(child.getData(), this, new ArrayList<>(child.getChildNodes()));
+    }
+
+//helpers
+
+    /** a cached head is valid while it remains a head, and it's tree has not changed since it was cached */
+    private boolean helperIsCached() {
+        return head != null && head.getParentNode() == null && head.structureVersion == headVersion;
+    }
+}
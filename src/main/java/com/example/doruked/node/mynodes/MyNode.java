@@ -118,10 +118,22 @@ public class MyNode<T> extends AbstractNode<T> {
     protected Node<T> helperAddChild(Node<T> child, int index) {
         // if specified child keeps children nodes, they can still affect this class
         Objects.requireNonNull(child);
-        Node<T> copy = new MyNode<>(child.getData(), this, child.getChildNodes());
+        Node<T> copy = helperCopy(child);
 
         children.add(index, copy);
         return copy;
     }
 
+    /**
+     * Creates the copy of the specified {@code child} that is stored by {@link #helperAddChild(Node, int)}.
+     * The copy has this object as it's parent and a modifiable list of the specified child's children.
+     *
+     * @param child the node to copy
+     * @return a copy of the specified child that belongs to this object
+     * @implSpec extendors override this method so that added nodes remain of their own type
+     */
+    protected Node<T> helperCopy(Node<T> child) {
+        return new MyNode<>(child.getData(), this, new ArrayList<>(child.getChildNodes()));
+    }
+
 }
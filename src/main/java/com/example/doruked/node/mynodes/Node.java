@@ -2,6 +2,7 @@ package com.example.doruked.node.mynodes;
 
 import com.example.doruked.ListUtil;
 import com.example.doruked.node.Basic;
+import com.example.doruked.node.iterators.DescendantIterator;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
@@ -11,6 +12,7 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * This interface represents a {@code node} that potentially belongs to a {@code tree}.
@@ -729,6 +731,102 @@ public interface Node<T>  extends Basic.CompatibleNode<T, Node<T>>, Iterable<Nod
         return getDataIf(e -> e.equals(target));
     }
 
+//stream
+
+    /**
+     * Returns a lazily evaluated stream of this object's descendants. Unlike {@link #getDescendingNodes()},
+     * no list is filled. Nodes are located as the stream consumes them, so short-circuiting operations
+     * (such as {@link Stream#findFirst()} or {@link Stream#limit(long)}) only visit the nodes they need.
+     *
+     * @return a stream of this object's descendants
+     * @implSpec by default, nodes are streamed in the order of a {@link DescendantIterator}, which
+     * retrieves children through {@link #getChildNodes()}
+     */
+    default Stream<Node<T>> streamDescendingNodes() {
+        return DescendantIterator.stream(this, false, Node::getChildNodes);
+    }
+
+    /**
+     * Returns a lazily evaluated stream of the data contained by this object's descendants
+     *
+     * @return a stream of this object's descendant data
+     * @see #streamDescendingNodes()
+     */
+    default Stream<T> streamDescendingData() {
+        return streamDescendingNodes().map(Node::getData);
+    }
+
+    /**
+     * Returns a lazily evaluated stream of this object's descendants that match the specified {@code predicate}
+     *
+     * @param pred the predicate to match
+     * @return a stream of the descendant nodes that match the predicate
+     * @throws NullPointerException if predicate is null
+     * @see #streamDescendingNodes()
+     */
+    default Stream<Node<T>> streamDescendingNodeIf(Predicate<? super Node<T>> pred) {
+        return streamDescendingNodes().filter(pred);
+    }
+
+    /**
+     * Returns a lazily evaluated stream of the data of this object's descendants that match the
+     * specified {@code predicate}
+     *
+     * @param pred the predicate to match
+     * @return a stream of the descendant data who's nodes match the predicate
+     * @throws NullPointerException if predicate is null
+     * @see #streamDescendingNodes()
+     */
+    default Stream<T> streamDescendingIf(Predicate<? super Node<T>> pred) {
+        return streamDescendingNodeIf(pred).map(Node::getData);
+    }
+
+    /**
+     * Returns a lazily evaluated stream of all nodes in this object's tree. The {@code tree head}
+     * is streamed first, followed by it's descendants.
+     *
+     * @return a stream of all nodes in this object's tree
+     * @see #streamDescendingNodes()
+     */
+    default Stream<Node<T>> streamAllNodes() {
+        return DescendantIterator.stream(getTreeHeadNode(), true, Node::getChildNodes);
+    }
+
+    /**
+     * Returns a lazily evaluated stream of the data contained by all nodes in this object's tree
+     *
+     * @return a stream of all data in this object's tree
+     * @see #streamAllNodes()
+     */
+    default Stream<T> streamAllData() {
+        return streamAllNodes().map(Node::getData);
+    }
+
+    /**
+     * Returns a lazily evaluated stream of all nodes in this object's tree that match the specified {@code predicate}
+     *
+     * @param pred the predicate to match
+     * @return a stream of the nodes in this object's tree that match the predicate
+     * @throws NullPointerException if predicate is null
+     * @see #streamAllNodes()
+     */
+    default Stream<Node<T>> streamNodeIf(Predicate<? super Node<T>> pred) {
+        return streamAllNodes().filter(pred);
+    }
+
+    /**
+     * Returns a lazily evaluated stream of the data from all nodes in this object's tree that match
+     * the specified {@code predicate}
+     *
+     * @param pred the predicate to match
+     * @return a stream of the data in this object's tree who's nodes match the predicate
+     * @throws NullPointerException if predicate is null
+     * @see #streamAllNodes()
+     */
+    default Stream<T> streamDataIf(Predicate<? super Node<T>> pred) {
+        return streamNodeIf(pred).map(Node::getData);
+    }
+
 //not organized
 
     /**
@@ -0,0 +1,131 @@
+package com.example.doruked.node.mynodes;
+
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An arena that allocates {@link ArenaNode}s from reusable slabs. It is intended for short-lived trees that are built,
+ * used, then discarded, many times over. Rather than creating new nodes for each tree, the nodes of previous trees are
+ * reused, so building a tree does not churn objects through the garbage collector once the arena has grown to fit.
+ * <p>
+ * Allocation:
+ * Nodes are allocated in order from slabs of {@code slabSize} preallocated nodes. When every slab is in use, another
+ * slab is added. Nodes created by an arena node, through {@link AbstractNode#create(Object)} or by adding children,
+ * are allocated from that node's arena.
+ * <p>
+ * Release:
+ * {@link #release()} frees every node of the arena in {@code O(1)}, by resetting the allocation cursor. Released nodes
+ * are reset when they are allocated again. Until then, they still reference their previous data and relations.
+ * {@link #clear()} may be used to drop those references in {@code O(n)} when the arena will be idle for a while.
+ * <p>
+ * Stale nodes:
+ * A node that was allocated before a release must not be used afterwards. Adding to a stale node throws
+ * {@link IllegalStateException}. Other operations on a stale node have undefined results.
+ *
+ * @param <T> the type of data contained by the nodes
+ */
+@NotThreadSafe
+public final class NodeArena<T> {
+
+    /** The default amount of nodes in a slab */
+    public static final int DEFAULT_SLAB_SIZE = 256;
+
+    private final int slabSize;
+    private final List<ArenaNode<T>[]> slabs = new ArrayList<>();
+    private int allocated;
+    private int generation;
+
+    public NodeArena() {
+        this(DEFAULT_SLAB_SIZE);
+    }
+
+    /**
+     * @param slabSize the amount of nodes in a slab
+     * @throws IllegalArgumentException if slabSize is less than 1
+     */
+    public NodeArena(int slabSize) {
+        if (slabSize < 1) throw new IllegalArgumentException("slabSize must be positive: " + slabSize);
+        this.slabSize = slabSize;
+    }
+
+//public operations
+
+    /**
+     * Allocates a node without a parent, for use as the head of a tree
+     *
+     * @param data the data the node will contain
+     * @return a node from this arena
+     */
+    public ArenaNode<T> allocate(T data) {
+        return allocate(data, null);
+    }
+
+    /**
+     * Frees every node allocated by this arena, in {@code O(1)}. Previously allocated nodes become stale,
+     * and will be reused by later allocations.
+     */
+    public void release() {
+        allocated = 0;
+        generation++;
+    }
+
+    /**
+     * Frees every node allocated by this arena, and drops the references they held to data and other nodes.
+     * Unlike {@link #release()}, this takes time proportional to the amount of nodes the arena has created.
+     */
+    public void clear() {
+        for (ArenaNode<T>[] slab : slabs) {
+            for (ArenaNode<T> node : slab) {
+                node.reset(null, null, -1);
+            }
+        }
+        release();
+    }
+
+    /**
+     * Returns the amount of nodes allocated since the last release
+     *
+     * @return the amount of nodes in use
+     */
+    public int size() {
+        return allocated;
+    }
+
+    /**
+     * Returns the amount of nodes this arena may allocate before it must add a slab
+     *
+     * @return the amount of nodes this arena holds
+     */
+    public int capacity() {
+        return slabs.size() * slabSize;
+    }
+
+//package-private
+
+    ArenaNode<T> allocate(T data, Node<T> parent) {
+        int slab = allocated / slabSize;
+        if (slab == slabs.size()) slabs.add(helperCreateSlab());
+
+        ArenaNode<T> node = slabs.get(slab)[allocated % slabSize];
+        allocated++;
+        node.reset(data, parent, generation);
+        return node;
+    }
+
+    boolean isCurrent(int generation) {
+        return this.generation == generation;
+    }
+
+//helpers
+
+    @SuppressWarnings("unchecked")
+    private ArenaNode<T>[] helperCreateSlab() {
+        ArenaNode<T>[] slab = (ArenaNode<T>[]) new ArenaNode<?>[slabSize];
+        for (int i = 0; i < slabSize; i++) {
+            slab[i] = new ArenaNode<>(this);
+        }
+        return slab;
+    }
+}
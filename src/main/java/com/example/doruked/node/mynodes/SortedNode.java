@@ -0,0 +1,259 @@
+package com.example.doruked.node.mynodes;
+
+import com.example.doruked.ListUtil;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An implementation of {@link AbstractNode} that keeps it's children sorted by their data, according to a
+ * {@link Comparator}. As the children are ordered, locating a child by it's data is a binary search, which costs
+ * {@code O(log n)} rather than checking each child.
+ * <p>
+ * Ordering:
+ * Children are inserted at the position their data sorts to. Children that compare as equal keep the order they
+ * were added in. As the position of a child is decided by this object, adding at a specified index is not supported.
+ * When the data of a child changes through {@link #setData(Object)}, the child moves to it's new position.
+ * <p>
+ * Matching:
+ * Methods that accept data to look up ({@link #getChild(Object)}, {@link #removeChild(Object)} and
+ * {@link #getChildrenInRange(Object, Object)}) match children using the comparator rather than
+ * {@link #sameData(Object)}. The comparator is expected to be consistent with equals.
+ *
+ * @param <T> the type of data contained by the node
+ * @implNote nodes added to this object are copied as a {@code SortedNode} sharing this object's comparator.
+ * Other methods that accept a predicate, such as {@link #getChild(java.util.function.Predicate)}, still check each child.
+ */
+@NotThreadSafe
+public class SortedNode<T> extends AbstractNode<T> {
+
+    private final Comparator<? super T> comparator;
+    private final List<Node<T>> children;
+    private T data;
+    private Node<T> parent;
+
+    public SortedNode(T data, Comparator<? super T> comparator) {
+        this(data, null, new ArrayList<>(), comparator);
+    }
+
+    /**
+     * @param data the data to contain
+     * @param parent the parent of this node
+     * @param children the children to store. The list is sorted and used to back this object's children
+     * @param comparator the comparator that orders children by their data
+     * @throws NullPointerException if children or comparator is null
+     */
+    protected SortedNode(T data, Node<T> parent, List<Node<T>> children, Comparator<? super T> comparator) {
+        this.comparator = Objects.requireNonNull(comparator);
+        this.children = children;
+        this.data = data;
+        this.parent = parent;
+        children.sort((a, b) -> comparator.compare(a.getData(), b.getData()));
+    }
+
+//public operations
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec works the same as {@link MyNode#setParentAs(Node)}, except that this object's position
+     * in a sorted parent is located by binary search
+     */
+    @Override
+    public void setParentAs(Node<T> node) {
+        if (parent != null) {
+            int myIndex = helperIndexInParent();
+            if (myIndex > -1) parent.removeChild(myIndex);
+        }
+        parent = node;
+        if (parent != null) parent.addChild(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implSpec if this object's parent is a {@code SortedNode}, this object is moved to the position
+     * it's new data sorts to
+     */
+    @Override
+    public void setData(T t) {
+        SortedNode<T> sorted = asSorted(parent);
+        if (sorted == null) {
+            data = t;
+            return;
+        }
+        int index = sorted.helperIndexOf(this);
+        if (index > -1) sorted.children.remove(index);
+        data = t;
+        if (index > -1) sorted.children.add(sorted.upperBound(t), this);
+    }
+
+    @Override
+    public T getData() {
+        return data;
+    }
+
+    @Override
+    public Node<T> getParentNode() {
+        return parent;
+    }
+
+    @Override
+    public List<Node<T>> getChildNodes() {
+        return List.copyOf(children);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote located by binary search. If multiple children compare equal to the data, the first is returned
+     */
+    @Override
+    public Node<T> getChild(T data) {
+        int index = lowerBound(data);
+        if (index < children.size() && compare(children.get(index), data) == 0) return children.get(index);
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote located by binary search. If multiple children compare equal to the data, the first is removed
+     */
+    @Override
+    public Node<T> removeChild(T target) {
+        int index = lowerBound(target);
+        if (index < children.size() && compare(children.get(index), target) == 0) return removeChild(index);
+        return null;
+    }
+
+    /**
+     * Returns the children who's data is within the specified range. The range includes {@code from}
+     * and excludes {@code to}.
+     *
+     * @param from the lowest data to include
+     * @param to the data to stop before
+     * @return the children in the range, in order, or an empty list if none are
+     */
+    public List<Node<T>> getChildrenInRange(T from, T to) {
+        int start = lowerBound(from);
+        int end = Math.max(start, lowerBound(to));
+        return List.copyOf(children.subList(start, end));
+    }
+
+    /**
+     * Returns the comparator that orders this object's children
+     *
+     * @return this object's comparator
+     */
+    public Comparator<? super T> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Not supported, as the position of a child is decided by it's data
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Node<T> addChild(T data, int index) {
+        throw new UnsupportedOperationException("children of a SortedNode are positioned by their data");
+    }
+
+    /**
+     * Not supported, as the position of a child is decided by it's data
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Node<T> addChild(Node<T> node, int index) {
+        throw new UnsupportedOperationException("children of a SortedNode are positioned by their data");
+    }
+
+//protected
+
+    @Override
+    protected List<Node<T>> hGetChildNodes() {
+        return children;
+    }
+
+    @Override
+    protected Node<T> create(T data) {
+        return new SortedNode<>(data, comparator);
+    }
+
+    @Override
+    protected int defaultAddIndex() {
+        return children.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the added node that is a copied from the specified {@code child}
+     * @implSpec adds a copy of the specified {@code child}, but with an updated parent.
+     * The specified {@code index} is ignored, the copy is inserted after the children that sort before or equal to it.
+     */
+    @Override
+    protected Node<T> helperAddChild(Node<T> child, int index) {
+        Objects.requireNonNull(child);
+        Node<T> copy = new SortedNode<>(child.getData(), this, new ArrayList<>(child.getChildNodes()), comparator);
+
+        children.add(upperBound(copy.getData()), copy);
+        return copy;
+    }
+
+//helpers
+
+    /** returns the index of the first child that does not sort before the specified data */
+    private int lowerBound(T key) {
+        int low = 0;
+        int high = children.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(children.get(mid), key) < 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    /** returns the index of the first child that sorts after the specified data */
+    private int upperBound(T key) {
+        int low = 0;
+        int high = children.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(children.get(mid), key) <= 0) low = mid + 1;
+            else high = mid;
+        }
+        return low;
+    }
+
+    private int compare(Node<T> child, T key) {
+        return comparator.compare(child.getData(), key);
+    }
+
+    /** returns the index of the specified child, by reference, or -1 if it is not a child */
+    private int helperIndexOf(Node<T> child) {
+        T key = child.getData();
+        for (int i = lowerBound(key); i < children.size() && compare(children.get(i), key) == 0; i++) {
+            if (children.get(i) == child) return i;
+        }
+        return -1;
+    }
+
+    private int helperIndexInParent() {
+        SortedNode<T> sorted = asSorted(parent);
+        if (sorted != null) return sorted.helperIndexOf(this);
+        return ListUtil.getReferenceIndex(parent.getChildNodes(), this);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> SortedNode<T> asSorted(Node<T> node) {
+        if (node instanceof SortedNode) return (SortedNode<T>) node;
+        return null;
+    }
+}
@@ -0,0 +1,339 @@
+package com.example.doruked.node.mynodes;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A reusable object that traverses the descendants of a {@link Node}. It exists so that traversals,
+ * and the functions used to observe them, do not need to be allocated each time a tree is walked.
+ * <p>
+ * Reuse:
+ * A walker is obtained through {@link #acquire()} and must be returned through {@link #release()} once the caller
+ * is done with it. Walkers are pooled per thread. Acquiring while another walker is in use (for example, from
+ * within a predicate of an ongoing walk) supplies a different walker. So, once a thread has reached it's
+ * deepest nesting of walks, acquiring and walking make no further allocations.
+ * <p>
+ * Traversal:
+ * The walker maintains an explicit stack of child lists and the index within each of them, rather than recursing
+ * or looking up a node's position amongst it's siblings. Each step is {@code O(1)} and the depth of a tree
+ * is not limited by the call stack.
+ * <p>
+ * Adapters:
+ * The walker provides reusable functions ({@link #consuming(Consumer)}, {@link #collecting(List, Function, Predicate)},
+ * {@link #filtering(Function, Predicate)}, {@link #binding(BiConsumer, List)} and {@link #finding(Predicate)}).
+ * Each returns the same object every time it is called, re-targeted at the specified arguments. The returned function
+ * is only valid until the adapter is requested again or the walker is released.
+ *
+ * @implNote a walker is not thread safe, but a walker is never shared across threads by {@link #acquire()}
+ */
+public final class TreeWalker {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int RETAINED_CAPACITY = 1024;
+    private static final ThreadLocal<ArrayDeque<TreeWalker>> POOL = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private List<?>[] lists = new List<?>[INITIAL_CAPACITY];
+    private int[] indices = new int[INITIAL_CAPACITY];
+    private int depth;
+    private boolean walking;
+
+    private final Consuming consuming = new Consuming();
+    private final Collecting collecting = new Collecting();
+    private final Binding binding = new Binding();
+    private final Finding finding = new Finding();
+
+    private TreeWalker() {
+    }
+
+//static
+
+    /**
+     * Returns a walker that is not in use by the current thread
+     *
+     * @return a walker for the caller's exclusive use until it is released
+     */
+    public static TreeWalker acquire() {
+        TreeWalker walker = POOL.get().pollFirst();
+        return (walker != null) ? walker : new TreeWalker();
+    }
+
+//public operations
+
+    /**
+     * Returns this walker to the pool of the current thread. References held by this walker
+     * are cleared, and it's stack is shrunk if an unusually deep tree caused it to grow large.
+     *
+     * @implSpec the caller must not use this object after calling this method
+     */
+    public void release() {
+        consuming.cons = null;
+        collecting.clear();
+        binding.cons = null;
+        binding.list = null;
+        finding.pred = null;
+        finding.found = null;
+        if (lists.length > RETAINED_CAPACITY) {
+            lists = new List<?>[INITIAL_CAPACITY];
+            indices = new int[INITIAL_CAPACITY];
+        }
+        POOL.get().offerFirst(this);
+    }
+
+    /**
+     * Applies the specified {@code predicate} to each descendant of the specified {@code parent}.
+     * If the predicate is matched, iteration stops and the method returns {@code true}.
+     * <p>
+     * Order: all children of a node are tested before any of their descendants. Then, each child's descendants
+     * are walked in the same way, in the order of the children. {@code null} children are skipped.
+     *
+     * @param parent the node whose descendants are walked
+     * @param pred the predicate to apply to each node. If it returns true, iteration stops
+     * @param <T> the type of data contained by the nodes
+     * @return true if a descendant matched the predicate, false if all descendants have been traversed
+     * @throws NullPointerException if parent or pred is null
+     * @throws IllegalStateException if this walker is already walking
+     * @implNote children are read through {@link AbstractNode#hGetChildNodes()} when possible, so that no copies
+     * are made. Modifying a child list while it is walked has the same effect as modifying a list while iterating
+     * it by index.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> boolean walk(Node<T> parent, Predicate<? super Node<T>> pred) {
+        Objects.requireNonNull(pred);
+        if (walking) throw new IllegalStateException("walker is already walking");
+
+        List<Node<T>> children = childrenOf(parent);
+        if (testAll(children, pred)) return true;
+        if (children == null || children.isEmpty()) return false;
+
+        walking = true;
+        int high = 0;
+        try {
+            push(children);
+            high = 1;
+            while (depth > 0) {
+                int top = depth - 1;
+                List<Node<T>> list = (List<Node<T>>) lists[top];
+                int index = indices[top];
+                if (index >= list.size()) {//exhausted
+                    depth--;
+                    continue;
+                }
+                indices[top] = index + 1;
+
+                Node<T> child = list.get(index);
+                if (child == null) continue;
+                List<Node<T>> grandChildren = childrenOf(child);
+                if (grandChildren == null || grandChildren.isEmpty()) continue;
+
+                if (testAll(grandChildren, pred)) return true;
+                push(grandChildren);
+                if (depth > high) high = depth;
+            }
+            return false;
+        } finally {
+            Arrays.fill(lists, 0, high, null);
+            depth = 0;
+            walking = false;
+        }
+    }
+
+//adapters
+
+    /**
+     * Returns a predicate that applies the specified {@code consumer} and never matches.
+     * Passing it to {@link #walk(Node, Predicate)} applies the consumer to each descendant.
+     *
+     * @param cons the consumer to apply
+     * @param <T> the type of data contained by the nodes
+     * @return a reused predicate that applies the consumer then returns false
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Predicate<Node<T>> consuming(Consumer<? super Node<T>> cons) {
+        consuming.cons = (Consumer<Object>) Objects.requireNonNull(cons);
+        return (Predicate<Node<T>>) (Predicate<?>) consuming;
+    }
+
+    /**
+     * Returns a consumer that adds each accepted node that matches the specified {@code filter}
+     * to the specified {@code list}, after applying the specified {@code converter}.
+     *
+     * @param list the list to add to
+     * @param converter determines what is stored for an accepted node
+     * @param filter the predicate a node must match to be stored, or null to store every node
+     * @param <T> the type of data contained by the nodes
+     * @param <R> the type stored in the list
+     * @return a reused consumer that collects nodes into the list
+     */
+    @SuppressWarnings("unchecked")
+    public <T, R> Consumer<Node<T>> collecting(List<? super R> list, Function<? super Node<T>, ? extends R> converter,
+                                               Predicate<? super Node<T>> filter) {
+        collecting.set((List<Object>) Objects.requireNonNull(list), converter, filter);
+        return (Consumer<Node<T>>) (Consumer<?>) collecting;
+    }
+
+    /**
+     * Returns a bi-consumer that adds an accepted node that matches the specified {@code filter} to the
+     * accepted list, after applying the specified {@code converter}. This is the same adapter as
+     * {@link #collecting(List, Function, Predicate)}, but without a bound list.
+     *
+     * @param converter determines what is stored for an accepted node
+     * @param filter the predicate a node must match to be stored, or null to store every node
+     * @param <T> the type of data contained by the nodes
+     * @param <R> the type stored in the list
+     * @return a reused bi-consumer that collects nodes into the accepted list
+     */
+    @SuppressWarnings("unchecked")
+    public <T, R> BiConsumer<Node<T>, List<R>> filtering(Function<? super Node<T>, ? extends R> converter,
+                                                          Predicate<? super Node<T>> filter) {
+        collecting.set(null, converter, filter);
+        return (BiConsumer<Node<T>, List<R>>) (BiConsumer<?, ?>) collecting;
+    }
+
+    /**
+     * Returns a consumer that passes each accepted node, along with the specified {@code list}, to the
+     * specified {@code biConsumer}.
+     *
+     * @param cons the bi-consumer to apply
+     * @param list the list to bind as the second argument
+     * @param <T> the type of data contained by the nodes
+     * @param <U> the type stored in the list
+     * @return a reused consumer that applies the bi-consumer
+     */
+    @SuppressWarnings("unchecked")
+    public <T, U> Consumer<Node<T>> binding(BiConsumer<? super Node<T>, List<U>> cons, List<U> list) {
+        binding.cons = (BiConsumer<Object, Object>) (BiConsumer<?, ?>) Objects.requireNonNull(cons);
+        binding.list = list;
+        return (Consumer<Node<T>>) (Consumer<?>) binding;
+    }
+
+    /**
+     * Returns a predicate that matches the same nodes as the specified {@code predicate}, and records the
+     * last node it matched. The recorded node is retrieved through {@link #found()}.
+     *
+     * @param pred the predicate to match
+     * @param <T> the type of data contained by the nodes
+     * @return a reused predicate that records matches
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Predicate<Node<T>> finding(Predicate<? super Node<T>> pred) {
+        finding.pred = (Predicate<Object>) Objects.requireNonNull(pred);
+        finding.found = null;
+        return (Predicate<Node<T>>) (Predicate<?>) finding;
+    }
+
+    /**
+     * Returns the node recorded by the predicate of {@link #finding(Predicate)}
+     *
+     * @param <T> the type of data contained by the node
+     * @return the matched node, or null if there was no match
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Node<T> found() {
+        return (Node<T>) finding.found;
+    }
+
+//helpers
+
+    /**
+     * Returns the children of the specified {@code node}, without copying them where possible
+     *
+     * @param node the node to get children from
+     * @param <T> the type of data contained by the node
+     * @return the list backing the node's children if it is an {@link AbstractNode}, otherwise {@link Node#getChildNodes()}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<Node<T>> childrenOf(Node<T> node) {
+        if (node instanceof AbstractNode) return ((AbstractNode<T>) node).hGetChildNodes();
+        return node.getChildNodes();
+    }
+
+    private static <T> boolean testAll(List<Node<T>> nodes, Predicate<? super Node<T>> pred) {
+        if (nodes == null) return false;
+        for (int i = 0; i < nodes.size(); i++) {
+            Node<T> node = nodes.get(i);
+            if (node != null && pred.test(node)) return true;
+        }
+        return false;
+    }
+
+    private void push(List<?> list) {
+        if (depth == lists.length) {
+            lists = Arrays.copyOf(lists, depth * 2);
+            indices = Arrays.copyOf(indices, depth * 2);
+        }
+        lists[depth] = list;
+        indices[depth] = 0;
+        depth++;
+    }
+
+//inner class
+
+    private static final class Consuming implements Predicate<Object> {
+        private Consumer<Object> cons;
+
+        @Override
+        public boolean test(Object node) {
+            cons.accept(node);
+            return false;
+        }
+    }
+
+    private static final class Collecting implements Consumer<Object>, BiConsumer<Object, List<Object>> {
+        private List<Object> list;
+        private Function<Object, Object> converter;
+        private Predicate<Object> filter;
+
+        @SuppressWarnings("unchecked")
+        private void set(List<Object> list, Function<?, ?> converter, Predicate<?> filter) {
+            this.list = list;
+            this.converter = (Function<Object, Object>) Objects.requireNonNull(converter);
+            this.filter = (Predicate<Object>) filter;
+        }
+
+        private void clear() {
+            list = null;
+            converter = null;
+            filter = null;
+        }
+
+        @Override
+        public void accept(Object node) {
+            accept(node, list);
+        }
+
+        @Override
+        public void accept(Object node, List<Object> target) {
+            if (filter == null || filter.test(node)) target.add(converter.apply(node));
+        }
+    }
+
+    private static final class Binding implements Consumer<Object> {
+        private BiConsumer<Object, Object> cons;
+        private Object list;
+
+        @Override
+        public void accept(Object node) {
+            cons.accept(node, list);
+        }
+    }
+
+    private static final class Finding implements Predicate<Object> {
+        private Predicate<Object> pred;
+        private Object found;
+
+        @Override
+        public boolean test(Object node) {
+            if (pred.test(node)) {
+                found = node;
+                return true;
+            }
+            return false;
+        }
+    }
+}
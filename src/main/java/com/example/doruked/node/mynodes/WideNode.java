@@ -0,0 +1,60 @@
+package com.example.doruked.node.mynodes;
+
+import com.example.doruked.TreeList;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link MyNode} designed for very large amounts of children. It's children are stored in a {@link TreeList},
+ * so inserting, removing and retrieving a child by index costs {@code O(log n)}, rather than shifting every
+ * child that follows it.
+ * <p>
+ * Published Data:
+ * unlike {@link MyNode}, {@link #getChildNodes()} does not copy this object's children, as a copy would cost
+ * {@code O(n)} per call. An unmodifiable view is returned instead, which reflects later changes to the children.
+ *
+ * @param <T> the type of data contained by the node
+ * @implNote nodes added to this object are copied as a {@code WideNode}
+ */
+@NotThreadSafe
+public class WideNode<T> extends MyNode<T> {
+
+    public WideNode(T data) {
+        this(data, null, new TreeList<>());
+    }
+
+    protected WideNode(T data, Node<T> parent, List<Node<T>> children) {
+        super(data, parent, children);
+    }
+
+//public operations
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return an unmodifiable view of this object's children
+     */
+    @Override
+    public List<Node<T>> getChildNodes() {
+        return Collections.unmodifiableList(hGetChildNodes());
+    }
+
+//protected
+
+    @Override
+    protected Node<T> create(T data) {
+        return new WideNode<>(data);
+    }
+
+    @Override
+    protected int defaultAddIndex() {
+        return hGetChildNodes().size();
+    }
+
+    @Override
+    protected Node<T> helperCopy(Node<T> child) {
+        return new WideNode<>(child.getData(), this, new TreeList<>(child.getChildNodes()));
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.doruked.node.traversal;
+
+import com.example.doruked.node.iterators.DescendantIterator;
+import com.example.doruked.node.mynodes.Node;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A traversal of a {@link Node} tree that is performed in bounded steps, rather than to completion.
+ * Each call of {@link #step(int, long)} applies an action to at most a given amount of nodes, or for at most
+ * a given amount of time, then returns. The traversal remembers it's position, so it is it's own continuation:
+ * calling {@code step} again resumes where the previous step stopped.
+ * <p>
+ * This allows large walks to be interleaved with latency-sensitive work. A caller with a budget runs a step,
+ * and {@link #schedule(Executor, int, long)} submits each step as a separate task, so other tasks submitted to the
+ * same executor may run in between.
+ * <p>
+ * Interruption:
+ * Steps check for interruption when they start and periodically while they run. An interrupted step throws
+ * {@link InterruptedException}, leaving the traversal where it stopped so that it may be resumed.
+ * <p>
+ * Order:
+ * Nodes are visited in the order of a {@link DescendantIterator}, which matches the order of
+ * {@link Node#forEach(Consumer)}.
+ *
+ * @param <T> the type of data contained by the nodes
+ * @implNote this class is not thread safe. A traversal may be stepped by different threads, as long as
+ * the steps do not overlap. {@link #schedule(Executor, int, long)} guarantees this.
+ */
+public class ChunkedTraversal<T> {
+
+    /** The amount of nodes visited between checks of the clock and the interrupted status */
+    static final int CHECK_INTERVAL = 32;
+
+    private final Iterator<Node<T>> iterator;
+    private final Consumer<? super Node<T>> action;
+    private long visited;
+
+    /**
+     * Creates a traversal of the descendants of the specified {@code parent}
+     *
+     * @param parent the node whose descendants are visited
+     * @param includeParent whether the parent is visited before it's descendants
+     * @param children the function used to retrieve the children of a node
+     * @param action the action applied to each visited node
+     * @throws NullPointerException if an argument is null
+     */
+    public ChunkedTraversal(Node<T> parent, boolean includeParent, Function<? super Node<T>, ? extends List<Node<T>>> children,
+                            Consumer<? super Node<T>> action) {
+        this.iterator = new DescendantIterator<>(parent, includeParent, children);
+        this.action = Objects.requireNonNull(action);
+    }
+
+    /**
+     * Creates a traversal of the descendants of the specified {@code parent}, that retrieves children
+     * through {@link Node#getChildNodes()}
+     *
+     * @param parent the node whose descendants are visited
+     * @param action the action applied to each visited node
+     * @throws NullPointerException if an argument is null
+     */
+    public ChunkedTraversal(Node<T> parent, Consumer<? super Node<T>> action) {
+        this(parent, false, Node::getChildNodes, action);
+    }
+
+//factories
+
+    /**
+     * Creates a traversal of every node of the tree the specified {@code treeMember} belongs to.
+     * The {@code tree head} is visited first.
+     *
+     * @param treeMember a node of the tree to traverse
+     * @param action the action applied to each visited node
+     * @param <T> the type of data contained by the nodes
+     * @return a traversal of the entire tree
+     * @throws NullPointerException if an argument is null
+     */
+    public static <T> ChunkedTraversal<T> ofTree(Node<T> treeMember, Consumer<? super Node<T>> action) {
+        return new ChunkedTraversal<>(treeMember.getTreeHeadNode(), true, Node::getChildNodes, action);
+    }
+
+//public operations
+
+    /**
+     * Visits at most {@code maxNodes} nodes, stopping early if {@code maxNanos} have elapsed.
+     * The clock is checked every {@value #CHECK_INTERVAL} nodes, so a step may overrun it's time budget
+     * by the cost of that many visits.
+     *
+     * @param maxNodes the most nodes this step may visit
+     * @param maxNanos the most time this step may take, in nanoseconds
+     * @return true if nodes remain to be visited, false if the traversal is complete
+     * @throws InterruptedException if the current thread was interrupted before or during the step
+     * @throws IllegalArgumentException if maxNodes or maxNanos is less than 1
+     */
+    public boolean step(int maxNodes, long maxNanos) throws InterruptedException {
+        if (maxNodes < 1) throw new IllegalArgumentException("maxNodes must be positive: " + maxNodes);
+        if (maxNanos < 1) throw new IllegalArgumentException("maxNanos must be positive: " + maxNanos);
+        if (Thread.interrupted()) throw new InterruptedException();
+
+        long start = System.nanoTime();
+        for (int i = 1; i <= maxNodes; i++) {
+            if (!iterator.hasNext()) return false;
+            action.accept(iterator.next());
+            visited++;
+
+            if (i % CHECK_INTERVAL == 0) {
+                if (Thread.interrupted()) throw new InterruptedException();
+                if (System.nanoTime() - start >= maxNanos) break;
+            }
+        }
+        return iterator.hasNext();
+    }
+
+    /**
+     * Visits at most {@code maxNodes} nodes
+     *
+     * @param maxNodes the most nodes this step may visit
+     * @return true if nodes remain to be visited, false if the traversal is complete
+     * @throws InterruptedException if the current thread was interrupted before or during the step
+     * @throws IllegalArgumentException if maxNodes is less than 1
+     * @see #step(int, long)
+     */
+    public boolean step(int maxNodes) throws InterruptedException {
+        return step(maxNodes, Long.MAX_VALUE);
+    }
+
+    /**
+     * Runs the remainder of this traversal on the specified {@code executor}, one step per task.
+     * Each step is submitted once the previous one completes, so tasks submitted by others may run in between.
+     * <p>
+     * Cancelling the returned future stops the traversal before it's next step. If a step throws an exception
+     * (including {@link InterruptedException}), or a step is rejected by the executor, the future completes
+     * exceptionally with it.
+     *
+     * @param executor the executor to run steps on
+     * @param maxNodes the most nodes a step may visit
+     * @param maxNanos the most time a step may take, in nanoseconds
+     * @return a future that completes once every node has been visited
+     * @throws NullPointerException if executor is null
+     * @throws IllegalArgumentException if maxNodes or maxNanos is less than 1
+     */
+    public CompletableFuture<Void> schedule(Executor executor, int maxNodes, long maxNanos) {
+        Objects.requireNonNull(executor);
+        if (maxNodes < 1) throw new IllegalArgumentException("maxNodes must be positive: " + maxNodes);
+        if (maxNanos < 1) throw new IllegalArgumentException("maxNanos must be positive: " + maxNanos);
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        helperSubmit(executor, maxNodes, maxNanos, future);
+        return future;
+    }
+
+    /**
+     * Returns whether every node has been visited
+     *
+     * @return true if the traversal is complete, false if not
+     */
+    public boolean isDone() {
+        return !iterator.hasNext();
+    }
+
+    /**
+     * Returns the amount of nodes visited so far
+     *
+     * @return the amount of visited nodes
+     */
+    public long getVisited() {
+        return visited;
+    }
+
+//helpers
+
+    private void helperSubmit(Executor executor, int maxNodes, long maxNanos, CompletableFuture<Void> future) {
+        try {
+            executor.execute(() -> helperRunStep(executor, maxNodes, maxNanos, future));
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+    }
+
+    private void helperRunStep(Executor executor, int maxNodes, long maxNanos, CompletableFuture<Void> future) {
+        if (future.isDone()) return; //cancelled or otherwise completed by the caller
+        try {
+            if (step(maxNodes, maxNanos)) helperSubmit(executor, maxNodes, maxNanos, future);
+            else future.complete(null);
+        } catch (Throwable ex) {
+            future.completeExceptionally(ex);
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.doruked.node.traversal;
+
+import com.example.doruked.Effect;
+import com.example.doruked.node.mynodes.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * This class processes a {@link Node} tree one depth at a time. Every node at a given depth is processed in parallel,
+ * and processing waits for the entire depth to complete (a "barrier") before moving to the next. So, when a node is
+ * processed, every node above it has already been processed. This suits workloads that propagate values from the
+ * root towards the leaves.
+ * <p>
+ * Frontiers:
+ * The nodes of a depth (the "frontier") are collected while the previous depth is processed, by the same tasks that
+ * process it. Two frontier lists are reused and swapped between depths, so a tree is walked once without
+ * re-scanning siblings, and without allocating a list per depth.
+ * <p>
+ * Chunking:
+ * A frontier is split into chunks of {@code chunkSize} nodes, and each chunk is submitted as a single task.
+ * A frontier that fits in a single chunk is processed by the calling thread, as a task would only add overhead.
+ * <p>
+ * Failure:
+ * If a depth fails or the caller is interrupted, the chunks of that depth that have not started are skipped, and
+ * {@link #apply} waits for the running chunks to stop before it returns. So no task outlives the call that
+ * submitted it, and the reused lists are never shared between calls.
+ *
+ * @implNote this class is not thread safe. It may be reused, but not used by multiple threads at once.
+ * The children of a node are retrieved after that node is processed, so a node's children may be modified
+ * while it is processed. Modifying other nodes of the tree during processing has undefined effects.
+ */
+public class LevelExecutor {
+
+    /** The default amount of nodes processed by a single task */
+    public static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final List<List<Node<?>>> buffers = new ArrayList<>();
+    private List<Node<?>> frontier = new ArrayList<>();
+    private List<Node<?>> nextFrontier = new ArrayList<>();
+
+    public LevelExecutor(ExecutorService executor) {
+        this(executor, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param executor the executor that processes chunks
+     * @param chunkSize the amount of nodes processed by a single task
+     * @throws NullPointerException if executor is null
+     * @throws IllegalArgumentException if chunkSize is less than 1
+     */
+    public LevelExecutor(ExecutorService executor, int chunkSize) {
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        this.executor = Objects.requireNonNull(executor);
+        this.chunkSize = chunkSize;
+    }
+
+//public operations
+
+    /**
+     * Applies the specified {@code effect} to the specified {@code root} and each of it's descendants,
+     * one depth at a time. The effect is applied to every node of a depth before any node of the next depth.
+     *
+     * @param root the node to begin at (depth 0)
+     * @param effect the effect to apply to each node
+     * @param <T> the type of data contained by the nodes
+     * @return the amount of depths that were processed
+     * @throws ExecutionException if applying the effect to a node threw an exception. The remaining depths are skipped
+     * @throws InterruptedException if the current thread was interrupted while waiting for a depth to complete
+     * @throws NullPointerException if root or effect is null
+     */
+    public <T> int apply(Node<T> root, Effect<? super Node<T>> effect) throws InterruptedException, ExecutionException {
+        Objects.requireNonNull(root);
+        Objects.requireNonNull(effect);
+
+        int depth = 0;
+        try {
+            frontier.add(root);
+            while (!frontier.isEmpty()) {
+                helperProcessLevel(effect);
+                depth++;
+
+                //swap and reuse
+                List<Node<?>> processed = frontier;
+                frontier = nextFrontier;
+                nextFrontier = processed;
+                nextFrontier.clear();
+            }
+            return depth;
+        } finally {
+            frontier.clear();
+            nextFrontier.clear();
+            for (List<Node<?>> buffer : buffers) {
+                buffer.clear();
+            }
+        }
+    }
+
+    /**
+     * Applies the specified {@code action} to the specified {@code root} and each of it's descendants,
+     * one depth at a time.
+     *
+     * @param root the node to begin at (depth 0)
+     * @param action the action to apply to each node
+     * @param <T> the type of data contained by the nodes
+     * @return the amount of depths that were processed
+     * @throws ExecutionException if applying the action to a node threw an exception
+     * @throws InterruptedException if the current thread was interrupted while waiting for a depth to complete
+     * @throws NullPointerException if root or action is null
+     * @see #apply(Node, Effect)
+     */
+    public <T> int forEach(Node<T> root, Consumer<? super Node<T>> action) throws InterruptedException, ExecutionException {
+        Objects.requireNonNull(action);
+        return apply(root, action::accept);
+    }
+
+//helpers
+
+    private <T> void helperProcessLevel(Effect<? super Node<T>> effect) throws InterruptedException, ExecutionException {
+        int size = frontier.size();
+        if (size <= chunkSize) {//not worth a task
+            try {
+                helperProcessChunk(effect, 0, size, nextFrontier);
+            } catch (InterruptedException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new ExecutionException(ex);
+            }
+            return;
+        }
+
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        List<Chunk> tasks = new ArrayList<>(chunks);
+        CountDownLatch finished = new CountDownLatch(chunks);
+        AtomicBoolean aborted = new AtomicBoolean();
+        for (int i = 0; i < chunks; i++) {
+            int from = i * chunkSize;
+            tasks.add(new Chunk(from, Math.min(size, from + chunkSize), helperBuffer(i), finished, aborted, effect));
+        }
+
+        //barrier
+        List<Future<Void>> results = new ArrayList<>(chunks);
+        try {
+            for (Chunk task : tasks) {
+                results.add(executor.submit(task));
+            }
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException | ExecutionException | RuntimeException ex) {
+            helperAbort(tasks, results, finished, aborted);
+            throw ex;
+        }
+
+        //concatenate in order, so the next depth keeps the order of the tree
+        for (int i = 0; i < chunks; i++) {
+            List<Node<?>> buffer = buffers.get(i);
+            nextFrontier.addAll(buffer);
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Stops the chunks of a depth, and waits until none of them are running, so that the frontier and buffers are
+     * no longer used by another thread. Chunks that have not started are prevented from starting. Running chunks
+     * stop after the node they are processing.
+     */
+    private static void helperAbort(List<Chunk> tasks, List<Future<Void>> results, CountDownLatch finished, AtomicBoolean aborted) {
+        aborted.set(true);
+        for (Chunk task : tasks) {
+            if (task.claimed.compareAndSet(false, true)) finished.countDown(); //never runs
+        }
+        for (Future<Void> result : results) {
+            result.cancel(false);
+        }
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                finished.await();
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+
+    private <T> void helperProcessChunk(Effect<? super Node<T>> effect, int from, int to, List<Node<?>> children) throws InterruptedException {
+        helperProcessChunk(effect, from, to, children, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void helperProcessChunk(Effect<? super Node<T>> effect, int from, int to, List<Node<?>> children,
+                                        AtomicBoolean aborted) throws InterruptedException {
+        for (int i = from; i < to; i++) {
+            if (aborted != null && aborted.get()) return;
+            Node<T> node = (Node<T>) frontier.get(i);
+            effect.apply(node);
+
+            List<Node<T>> nodes = node.getChildNodes();
+            if (nodes == null) continue;
+            for (Node<T> child : nodes) {
+                if (child != null) children.add(child);
+            }
+        }
+    }
+
+    private List<Node<?>> helperBuffer(int index) {
+        while (buffers.size() <= index) {
+            buffers.add(new ArrayList<>());
+        }
+        return buffers.get(index);
+    }
+
+//inner class
+
+    /**
+     * A task that processes a range of the frontier. A task is "claimed" once, either by the thread that runs it
+     * or by {@link #helperAbort}, so that every task counts down {@code finished} exactly once.
+     */
+    private final class Chunk implements Callable<Void> {
+        private final int from;
+        private final int to;
+        private final List<Node<?>> buffer;
+        private final CountDownLatch finished;
+        private final AtomicBoolean aborted;
+        private final Effect<? super Node<Object>> effect;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        @SuppressWarnings("unchecked")
+        private Chunk(int from, int to, List<Node<?>> buffer, CountDownLatch finished, AtomicBoolean aborted,
+                      Effect<?> effect) {
+            this.from = from;
+            this.to = to;
+            this.buffer = buffer;
+            this.finished = finished;
+            this.aborted = aborted;
+            this.effect = (Effect<? super Node<Object>>) effect;
+        }
+
+        @Override
+        public Void call() throws InterruptedException {
+            if (!claimed.compareAndSet(false, true)) return null;
+            try {
+                helperProcessChunk(effect, from, to, buffer, aborted);
+                return null;
+            } finally {
+                finished.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.doruked.node.traversal;
+
+import com.example.doruked.Effect;
+import com.example.doruked.node.mynodes.Node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * This class processes a {@link Node} tree in parallel, by splitting it into subtrees that are processed as
+ * {@link ForkJoinPool} tasks. Idle worker threads steal the subtrees that other workers have yet to start, so
+ * uneven trees are balanced without knowing their shape in advance.
+ * <p>
+ * Ordering:
+ * The order nodes are processed in is decided by an {@link Order}. Unlike {@link LevelExecutor}, no depth waits
+ * for an entire other depth. A node only waits for it's own parent ({@link Order#PARENTS_FIRST}), or it's own
+ * descendants ({@link Order#CHILDREN_FIRST}). Siblings and their subtrees are never ordered relative to each other.
+ * <p>
+ * Granularity:
+ * Nodes above the {@code forkDepth} (relative to the root) process each of their children's subtrees as a separate
+ * task. A subtree that begins at the {@code forkDepth} is processed by a single task, iteratively. A larger fork
+ * depth allows more parallelism, at the cost of more tasks.
+ * <p>
+ * Failure:
+ * When applying an effect to a node throws an exception, no further nodes are started, and the exception is
+ * rethrown by the calling thread once the running tasks complete. An {@link InterruptedException} is rethrown as is,
+ * and other exceptions are wrapped in an {@link ExecutionException}, the same way
+ * {@link com.example.doruked.applier.Applier appliers} report them.
+ *
+ * @implNote this class holds no state between calls, so an instance may be used by multiple threads at once.
+ * The children of a node are retrieved when it's subtree is reached. Modifying the tree during processing has
+ * undefined effects.
+ */
+public class SubtreeExecutor {
+
+    /** The default depth below which subtrees are not split into further tasks */
+    public static final int DEFAULT_FORK_DEPTH = 8;
+
+    private final ForkJoinPool pool;
+    private final Order order;
+    private final int forkDepth;
+
+    /**
+     * Creates an executor that runs in the {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param order the order nodes are processed in
+     * @throws NullPointerException if order is null
+     */
+    public SubtreeExecutor(Order order) {
+        this(ForkJoinPool.commonPool(), order, DEFAULT_FORK_DEPTH);
+    }
+
+    /**
+     * @param pool the pool that runs the tasks
+     * @param order the order nodes are processed in
+     * @param forkDepth the depth at which a subtree is processed by a single task. A depth of 0 processes the
+     *                  entire tree in one task
+     * @throws NullPointerException if pool or order is null
+     * @throws IllegalArgumentException if forkDepth is negative
+     */
+    public SubtreeExecutor(ForkJoinPool pool, Order order, int forkDepth) {
+        if (forkDepth < 0) throw new IllegalArgumentException("forkDepth must not be negative: " + forkDepth);
+        this.pool = Objects.requireNonNull(pool);
+        this.order = Objects.requireNonNull(order);
+        this.forkDepth = forkDepth;
+    }
+
+//public operations
+
+    /**
+     * Applies the specified {@code effect} to the specified {@code root} and each of it's descendants,
+     * in this object's {@link Order}
+     *
+     * @param root the node to begin at
+     * @param effect the effect to apply to each node
+     * @param <T> the type of data contained by the nodes
+     * @throws ExecutionException if applying the effect to a node threw an exception other than an
+     * {@code InterruptedException}. The exception is the cause
+     * @throws InterruptedException if applying the effect to a node threw an {@code InterruptedException},
+     * or the current thread was interrupted while waiting for the tree to be processed
+     * @throws NullPointerException if root or effect is null
+     */
+    public <T> void apply(Node<T> root, Effect<? super Node<T>> effect) throws InterruptedException, ExecutionException {
+        Objects.requireNonNull(root);
+        Objects.requireNonNull(effect);
+
+        Run<T> run = new Run<>(effect, order, forkDepth);
+        ForkJoinTask<Void> task = pool.submit(new SubtreeTask<>(run, root, 0));
+        try {
+            task.get();
+        } catch (InterruptedException ex) {
+            run.abort(ex);
+            task.cancel(false);
+            throw ex;
+        }
+        run.rethrow();
+    }
+
+    /**
+     * Applies the specified {@code action} to the specified {@code root} and each of it's descendants,
+     * in this object's {@link Order}
+     *
+     * @param root the node to begin at
+     * @param action the action to apply to each node
+     * @param <T> the type of data contained by the nodes
+     * @throws ExecutionException if applying the action to a node threw an exception
+     * @throws InterruptedException if the current thread was interrupted while waiting for the tree to be processed
+     * @throws NullPointerException if root or action is null
+     * @see #apply(Node, Effect)
+     */
+    public <T> void forEach(Node<T> root, Consumer<? super Node<T>> action) throws InterruptedException, ExecutionException {
+        Objects.requireNonNull(action);
+        apply(root, action::accept);
+    }
+
+    public Order getOrder() {
+        return order;
+    }
+
+    public int getForkDepth() {
+        return forkDepth;
+    }
+
+//inner class
+
+    /** The order that nodes of a tree are processed in */
+    public enum Order {
+        /** a node is processed before any of it's descendants */
+        PARENTS_FIRST,
+        /** a node is processed after all of it's descendants */
+        CHILDREN_FIRST,
+        /** a node may be processed before, after, or while it's descendants are */
+        UNORDERED
+    }
+
+    /** The state shared by the tasks of a single call */
+    private static final class Run<T> {
+        private final Effect<? super Node<T>> effect;
+        private final Order order;
+        private final int forkDepth;
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+        private volatile boolean aborted;
+
+        private Run(Effect<? super Node<T>> effect, Order order, int forkDepth) {
+            this.effect = effect;
+            this.order = order;
+            this.forkDepth = forkDepth;
+        }
+
+        /** applies the effect, unless a failure has occurred. Returns false if the run is aborted */
+        private boolean process(Node<T> node) {
+            if (aborted) return false;
+            try {
+                effect.apply(node);
+                return true;
+            } catch (Exception ex) {
+                abort(ex);
+                return false;
+            }
+        }
+
+        private void abort(Exception cause) {
+            failure.compareAndSet(null, cause);
+            aborted = true;
+        }
+
+        private void rethrow() throws InterruptedException, ExecutionException {
+            Exception ex = failure.get();
+            if (ex == null) return;
+            if (ex instanceof InterruptedException) throw (InterruptedException) ex;
+            throw new ExecutionException(ex);
+        }
+    }
+
+    private static final class SubtreeTask<T> extends RecursiveAction {
+        private final Run<T> run;
+        private final Node<T> node;
+        private final int depth;
+
+        private SubtreeTask(Run<T> run, Node<T> node, int depth) {
+            this.run = run;
+            this.node = node;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            if (depth >= run.forkDepth) {
+                if (run.order == Order.CHILDREN_FIRST) helperPostOrder();
+                else helperPreOrder();
+                return;
+            }
+
+            if (run.order == Order.PARENTS_FIRST && !run.process(node)) return;
+            List<SubtreeTask<T>> tasks = helperChildTasks();
+            switch (run.order) {
+                case PARENTS_FIRST:
+                    ForkJoinTask.invokeAll(tasks);
+                    break;
+                case CHILDREN_FIRST:
+                    ForkJoinTask.invokeAll(tasks);
+                    run.process(node);
+                    break;
+                case UNORDERED:
+                    for (SubtreeTask<T> task : tasks) {
+                        task.fork();
+                    }
+                    run.process(node);
+                    for (int i = tasks.size() - 1; i >= 0; i--) {
+                        tasks.get(i).join();
+                    }
+                    break;
+            }
+        }
+
+        private List<SubtreeTask<T>> helperChildTasks() {
+            List<Node<T>> children = node.getChildNodes();
+            if (children == null) return List.of();
+
+            List<SubtreeTask<T>> tasks = new ArrayList<>(children.size());
+            for (Node<T> child : children) {
+                if (child != null) tasks.add(new SubtreeTask<>(run, child, depth + 1));
+            }
+            return tasks;
+        }
+
+        private void helperPreOrder() {
+            Deque<Node<T>> stack = new ArrayDeque<>();
+            stack.push(node);
+            while (!stack.isEmpty()) {
+                Node<T> current = stack.pop();
+                if (!run.process(current)) return;
+                helperPushChildren(current, stack);
+            }
+        }
+
+        /** pre-order with children pushed in reverse yields the reverse of a post-order */
+        private void helperPostOrder() {
+            List<Node<T>> reversed = new ArrayList<>();
+            Deque<Node<T>> stack = new ArrayDeque<>();
+            stack.push(node);
+            while (!stack.isEmpty()) {
+                if (run.aborted) return;
+                Node<T> current = stack.pop();
+                reversed.add(current);
+                List<Node<T>> children = current.getChildNodes();
+                if (children == null) continue;
+                for (Node<T> child : children) {
+                    if (child != null) stack.push(child);
+                }
+            }
+            for (int i = reversed.size() - 1; i >= 0; i--) {
+                if (!run.process(reversed.get(i))) return;
+            }
+        }
+
+        private static <T> void helperPushChildren(Node<T> node, Deque<Node<T>> stack) {
+            List<Node<T>> children = node.getChildNodes();
+            if (children == null) return;
+            for (int i = children.size() - 1; i >= 0; i--) {
+                Node<T> child = children.get(i);
+                if (child != null) stack.push(child);
+            }
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.doruked.node.trie;
+
+import com.example.doruked.Pair;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A prefix tree that maps {@link CharSequence} keys to values. Each character of a key is a {@link TrieNode},
+ * so keys that share a prefix share the nodes of that prefix. Looking up a key costs one child lookup per
+ * character, regardless of how many keys the trie contains.
+ * <p>
+ * Nodes:
+ * The nodes of a trie are {@link com.example.doruked.node.mynodes.Node nodes}, whose data is the value of the key
+ * that ends at them. So, the traversal and iteration methods of {@code Node} may be used on a trie, through
+ * {@link #getHeadNode()} or {@link #getNode(CharSequence)}. The nodes may not be modified directly.
+ * <p>
+ * Enumeration:
+ * {@link #keysWithPrefix(CharSequence)} and {@link #entriesWithPrefix(CharSequence)} are lazy. Each key is
+ * located as it is requested, in lexicographic order of it's characters.
+ *
+ * @param <V> the type of value mapped to keys
+ * @implNote this trie does not accept {@code null} values, as a {@code null} value marks a node no key ends at.
+ */
+@NotThreadSafe
+public class Trie<V> {
+
+    private TrieNode<V> head = new TrieNode<>('\0', null);
+    private int size;
+
+//public operations
+
+    /**
+     * Maps the specified {@code key} to the specified {@code value}
+     *
+     * @param key the key to map
+     * @param value the value to map the key to
+     * @return the value previously mapped to the key, or null if there was none
+     * @throws NullPointerException if key or value is null
+     */
+    public V put(CharSequence key, V value) {
+        Objects.requireNonNull(value);
+        TrieNode<V> node = head;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.getOrAddChild(key.charAt(i));
+        }
+        V previous = node.setValue(value);
+        if (previous == null) size++;
+        return previous;
+    }
+
+    /**
+     * Returns the value mapped to the specified {@code key}
+     *
+     * @param key the key to look up
+     * @return the mapped value, or null if the key is not mapped
+     * @throws NullPointerException if key is null
+     */
+    public V get(CharSequence key) {
+        TrieNode<V> node = getNode(key);
+        return (node == null) ? null : node.getData();
+    }
+
+    /**
+     * Returns whether the specified {@code key} is mapped to a value
+     *
+     * @param key the key to look up
+     * @return true if the key is mapped
+     * @throws NullPointerException if key is null
+     */
+    public boolean containsKey(CharSequence key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Removes the mapping of the specified {@code key}. Nodes that are left without a value
+     * or children are removed from the trie.
+     *
+     * @param key the key to remove
+     * @return the value the key was mapped to, or null if the key was not mapped
+     * @throws NullPointerException if key is null
+     */
+    public V remove(CharSequence key) {
+        TrieNode<V> node = getNode(key);
+        if (node == null || !node.hasValue()) return null;
+
+        V previous = node.setValue(null);
+        size--;
+        while (node != head && !node.hasValue() && node.childCount() == 0) {//prune
+            TrieNode<V> parent = (TrieNode<V>) node.getParentNode();
+            parent.removeChildKey(node.getKey());
+            node = parent;
+        }
+        return previous;
+    }
+
+    /**
+     * Returns the node that the specified {@code prefix} ends at
+     *
+     * @param prefix the characters leading to the node
+     * @return the node, or null if no key starts with the prefix
+     * @throws NullPointerException if prefix is null
+     */
+    public TrieNode<V> getNode(CharSequence prefix) {
+        TrieNode<V> node = head;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.getChild(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Returns the mapping of the longest key that is a prefix of the specified {@code input}.
+     * This is the lookup used by routing tables, where the most specific matching route is chosen.
+     *
+     * @param input the characters to match
+     * @return the longest matching key and it's value, or null if no key is a prefix of the input
+     * @throws NullPointerException if input is null
+     */
+    public Pair<String, V> longestPrefixMatch(CharSequence input) {
+        TrieNode<V> node = head;
+        TrieNode<V> match = head.hasValue() ? head : null;
+        int matchLength = 0;
+        for (int i = 0; i < input.length(); i++) {
+            node = node.getChild(input.charAt(i));
+            if (node == null) break;
+            if (node.hasValue()) {
+                match = node;
+                matchLength = i + 1;
+            }
+        }
+        if (match == null) return null;
+        return new Pair<>(input.subSequence(0, matchLength).toString(), match.getData());
+    }
+
+    /**
+     * Returns a lazy iterator over the keys that start with the specified {@code prefix},
+     * in lexicographic order
+     *
+     * @param prefix the prefix of the keys to return
+     * @return an iterator of the keys
+     * @throws NullPointerException if prefix is null
+     */
+    public Iterator<String> keysWithPrefix(CharSequence prefix) {
+        Iterator<Pair<String, V>> entries = entriesWithPrefix(prefix);
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public String next() {
+                return entries.next().getKey();
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy iterator over the mappings of keys that start with the specified {@code prefix},
+     * in lexicographic order of the keys
+     *
+     * @param prefix the prefix of the keys to return
+     * @return an iterator of the mappings
+     * @throws NullPointerException if prefix is null
+     */
+    public Iterator<Pair<String, V>> entriesWithPrefix(CharSequence prefix) {
+        return new PrefixIterator<>(getNode(prefix), prefix);
+    }
+
+    public TrieNode<V> getHeadNode() {
+        return head;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Removes all mappings. Nodes previously retrieved from this trie are no longer a part of it. */
+    public void clear() {
+        head = new TrieNode<>('\0', null);
+        size = 0;
+    }
+
+//inner class
+
+    /**
+     * Visits a subtree in pre-order, which is the lexicographic order of it's keys. The path from the
+     * subtree's head is kept as a stack, alongside the characters of the current key.
+     */
+    private static final class PrefixIterator<V> implements Iterator<Pair<String, V>> {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final StringBuilder key;
+        private TrieNode<?>[] nodes = new TrieNode<?>[INITIAL_CAPACITY];
+        private int[] indices = new int[INITIAL_CAPACITY];
+        private int depth;
+        private TrieNode<V> next;
+
+        private PrefixIterator(TrieNode<V> start, CharSequence prefix) {
+            key = new StringBuilder(prefix);
+            if (start == null) return;
+            push(start);
+            if (start.hasValue()) next = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) next = advance();
+            return next != null;
+        }
+
+        @Override
+        public Pair<String, V> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Pair<String, V> entry = new Pair<>(key.toString(), next.getData());
+            next = null;
+            return entry;
+        }
+
+        @SuppressWarnings("unchecked")
+        private TrieNode<V> advance() {
+            while (depth > 0) {
+                int top = depth - 1;
+                TrieNode<V> node = (TrieNode<V>) nodes[top];
+                int index = indices[top];
+                if (index < node.childCount()) {
+                    indices[top] = index + 1;
+                    TrieNode<V> child = node.childAt(index);
+                    key.append(child.getKey());
+                    push(child);
+                    if (child.hasValue()) return child;
+                } else {
+                    nodes[--depth] = null;
+                    if (depth > 0) key.setLength(key.length() - 1);
+                }
+            }
+            return null;
+        }
+
+        private void push(TrieNode<V> node) {
+            if (depth == nodes.length) {
+                nodes = Arrays.copyOf(nodes, depth * 2);
+                indices = Arrays.copyOf(indices, depth * 2);
+            }
+            nodes[depth] = node;
+            indices[depth] = 0;
+            depth++;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.doruked.node.trie;
+
+import com.example.doruked.node.mynodes.AbstractNode;
+import com.example.doruked.node.mynodes.Node;
+import net.jcip.annotations.NotThreadSafe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A node of a {@link Trie}. Each node represents one character of a key, and contains the value of the key
+ * that ends at it, or {@code null} if no key ends at it.
+ * <p>
+ * The structure of a trie is maintained by the trie that owns it. So, the methods of {@link Node} that modify
+ * the structure or data of a tree are not supported. The methods that read or traverse a tree are supported,
+ * and visit the children of a node in the order of their characters.
+ * <p>
+ * Child table:
+ * Children are stored in an array sorted by character, and located by binary search. This keeps nodes with few
+ * children (which are most nodes in a trie) compact. Once the amount of children exceeds {@link #HASH_THRESHOLD},
+ * a hash index is added as well, so that nodes with a wide alphabet of children are located in constant time.
+ *
+ * @param <V> the type of value contained by the node
+ */
+@NotThreadSafe
+public class TrieNode<V> extends AbstractNode<V> {
+
+    /** the amount of children above which children are also indexed by hash */
+    static final int HASH_THRESHOLD = 16;
+    private static final int INITIAL_CAPACITY = 2;
+    private static final char[] NO_KEYS = new char[0];
+
+    private final char key;
+    private final TrieNode<V> parent;
+    private final List<Node<V>> children = new ArrayList<>(0);
+    private final List<Node<V>> childView = Collections.unmodifiableList(children);
+    private char[] keys = NO_KEYS;
+    private Map<Character, TrieNode<V>> index;
+    private V value;
+
+    TrieNode(char key, TrieNode<V> parent) {
+        this.key = key;
+        this.parent = parent;
+    }
+
+//public operations
+
+    /**
+     * Returns the character this node represents. The head of a trie represents no character,
+     * and returns {@code '\0'}.
+     *
+     * @return this object's character
+     */
+    public char getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the child that represents the specified character
+     *
+     * @param c the character of the child
+     * @return the child, or null if no child represents the character
+     */
+    public TrieNode<V> getChild(char c) {
+        if (index != null) return index.get(c);
+        int i = Arrays.binarySearch(keys, 0, children.size(), c);
+        return (i < 0) ? null : childAt(i);
+    }
+
+    /**
+     * Returns whether a key of the trie ends at this node
+     *
+     * @return true if this node contains a value
+     */
+    public boolean hasValue() {
+        return value != null;
+    }
+
+    @Override
+    public V getData() {
+        return value;
+    }
+
+    @Override
+    public Node<V> getParentNode() {
+        return parent;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote the returned list is an unmodifiable view of this object's children
+     */
+    @Override
+    public List<Node<V>> getChildNodes() {
+        return childView;
+    }
+
+    //unsupported
+
+    /**
+     * Not supported, as values are set through {@link Trie#put(CharSequence, Object)}
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setData(V data) {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported, as the structure of a trie is maintained by the trie
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setParentAs(Node<V> node) {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported, as the structure of a trie is maintained by the trie
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Node<V> removeChild(int index) {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported, as the structure of a trie is maintained by the trie
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Node<V> removeChild(Predicate<? super Node<V>> pred) {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported, as the structure of a trie is maintained by the trie
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public List<Node<V>> removeAllChildren(Predicate<? super Node<V>> pred) {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported, as the structure of a trie is maintained by the trie
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public Node<V> pluckNode() {
+        throw unsupported();
+    }
+
+    /**
+     * Not supported, as the structure of a trie is maintained by the trie
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void removeParent() {
+        throw unsupported();
+    }
+
+//protected
+
+    /** @throws UnsupportedOperationException always */
+    @Override
+    protected Node<V> create(V data) {
+        throw unsupported();
+    }
+
+    /** @throws UnsupportedOperationException always */
+    @Override
+    protected Node<V> helperAddChild(Node<V> child, int index) {
+        throw unsupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote the returned list is unmodifiable. It is only used by this class to read the children
+     */
+    @Override
+    protected List<Node<V>> hGetChildNodes() {
+        return childView;
+    }
+
+//package-private
+
+    TrieNode<V> childAt(int i) {
+        return (TrieNode<V>) children.get(i);
+    }
+
+    int childCount() {
+        return children.size();
+    }
+
+    V setValue(V value) {
+        V previous = this.value;
+        this.value = value;
+        return previous;
+    }
+
+    boolean isIndexed() {
+        return index != null;
+    }
+
+    /** returns the child that represents the specified character, adding it if it does not exist */
+    TrieNode<V> getOrAddChild(char c) {
+        int size = children.size();
+        int i = Arrays.binarySearch(keys, 0, size, c);
+        if (i >= 0) return childAt(i);
+
+        int at = -(i + 1);
+        if (size == keys.length) keys = Arrays.copyOf(keys, Math.max(INITIAL_CAPACITY, size * 2));
+        System.arraycopy(keys, at, keys, at + 1, size - at);
+        keys[at] = c;
+
+        TrieNode<V> child = new TrieNode<>(c, this);
+        children.add(at, child);
+        if (index != null) index.put(c, child);
+        else if (children.size() > HASH_THRESHOLD) buildIndex();
+        return child;
+    }
+
+    /** removes the child that represents the specified character, if it exists */
+    void removeChildKey(char c) {
+        int size = children.size();
+        int i = Arrays.binarySearch(keys, 0, size, c);
+        if (i < 0) return;
+
+        System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+        children.remove(i);
+        if (index != null) {
+            if (children.size() > HASH_THRESHOLD / 2) index.remove(c);
+            else index = null;
+        }
+    }
+
+//helpers
+
+    private void buildIndex() {
+        index = new HashMap<>(children.size() * 2);
+        for (int i = 0; i < children.size(); i++) {
+            index.put(keys[i], childAt(i));
+        }
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("the structure of a trie is maintained by it's Trie");
+    }
+}
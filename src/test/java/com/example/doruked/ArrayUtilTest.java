@@ -0,0 +1,177 @@
+package com.example.doruked;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class ArrayUtilTest {
+
+    private static final Integer[] VALUES = IntStream.range(0, 100).boxed().toArray(Integer[]::new);
+
+    @Test
+    public void test_sampleInto_chooses_distinct_members_for_small_and_large_samples() {
+        Random random = new Random(3);
+        for (int amount : new int[]{0, 1, 10, 25, 26, 60, 100}) {
+            Integer[] sample = ArrayUtil.sampleInto(VALUES, new Integer[amount], random);
+            Set<Integer> distinct = new HashSet<>(Arrays.asList(sample));
+
+            assertEquals(amount, distinct.size());
+            assertTrue(Arrays.asList(VALUES).containsAll(distinct));
+        }
+    }
+
+    @Test
+    public void test_sampleInto_chooses_each_member_equally_often() {
+        Random random = new Random(5);
+        int[] counts = new int[20];
+        Integer[] values = Arrays.copyOf(VALUES, 20);
+        for (int i = 0; i < 20_000; i++) {
+            for (Integer chosen : ArrayUtil.sampleInto(values, new Integer[3], random)) {
+                counts[chosen]++;
+            }
+        }
+        for (int count : counts) {
+            assertEquals(3_000, count, 300);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_sample_rejects_amount_greater_than_length() {
+        ArrayUtil.sample(VALUES, 101);
+    }
+
+    @Test
+    public void test_shuffle_permutes_the_values() {
+        Integer[] values = VALUES.clone();
+        ArrayUtil.shuffle(values, new Random(1));
+
+        assertFalse(Arrays.equals(VALUES, values));
+        Arrays.sort(values);
+        assertArrayEquals(VALUES, values);
+    }
+
+    @Test
+    public void test_AliasTable_chooses_indices_in_proportion_to_weight() {
+        ArrayUtil.AliasTable table = new ArrayUtil.AliasTable(new double[]{1, 0, 3, 6});
+        Random random = new Random(9);
+        int[] counts = new int[4];
+        for (int i = 0; i < 100_000; i++) {
+            counts[table.next(random)]++;
+        }
+        assertEquals(10_000, counts[0], 1_000);
+        assertEquals(0, counts[1]);
+        assertEquals(30_000, counts[2], 1_000);
+        assertEquals(60_000, counts[3], 1_000);
+        assertEquals("b", ArrayUtil.weightedMember(new String[]{"a", "b"}, new ArrayUtil.AliasTable(new double[]{0, 2})));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_AliasTable_rejects_negative_weight() {
+        new ArrayUtil.AliasTable(new double[]{1, -1});
+    }
+
+    @Test
+    public void test_reservoirSample_chooses_each_element_equally_often() {
+        Random random = new Random(13);
+        int[] counts = new int[50];
+        Integer[] reservoir = new Integer[5];
+        for (int i = 0; i < 20_000; i++) {
+            assertEquals(5, ArrayUtil.reservoirSample(IntStream.range(0, 50).iterator(), reservoir, random));
+            assertEquals(5, new HashSet<>(Arrays.asList(reservoir)).size());
+            for (Integer chosen : reservoir) {
+                counts[chosen]++;
+            }
+        }
+        for (int count : counts) {
+            assertEquals(2_000, count, 250);
+        }
+    }
+
+    @Test
+    public void test_reservoirSample_returns_every_element_of_a_short_source() {
+        List<Integer> sample = ArrayUtil.reservoirSample(List.of(1, 2, 3).iterator(), 5);
+        assertEquals(List.of(1, 2, 3), sample);
+    }
+
+    @Test
+    public void test_indexOf_finds_the_first_occurrence_at_every_position() {
+        for (int length = 0; length < 40; length++) {
+            for (int position = 0; position < length; position++) {
+                int[] ints = new int[length];
+                long[] longs = new long[length];
+                byte[] bytes = new byte[length];
+                Arrays.fill(bytes, (byte) 0x7F);
+                ints[position] = 1;
+                longs[position] = 1L << 40;
+                bytes[position] = (byte) 0x80;
+                if (position + 1 < length) {
+                    ints[position + 1] = 1;
+                    bytes[position + 1] = (byte) 0x80;
+                }
+
+                assertEquals(position, ArrayUtil.indexOf(ints, 1));
+                assertEquals(position, ArrayUtil.indexOf(longs, 1L << 40));
+                assertEquals(position, ArrayUtil.indexOf(bytes, (byte) 0x80));
+            }
+            assertFalse(ArrayUtil.contains(new int[length], 1));
+            assertFalse(ArrayUtil.contains(new long[length], 1L));
+            assertFalse(ArrayUtil.contains(new byte[length], (byte) 1));
+        }
+    }
+
+    @Test
+    public void test_indexOf_byte_respects_range() {
+        byte[] bytes = new byte[30];
+        bytes[3] = 5;
+        bytes[20] = 5;
+        assertEquals(20, ArrayUtil.indexOf(bytes, 4, 30, (byte) 5));
+        assertEquals(-1, ArrayUtil.indexOf(bytes, 4, 20, (byte) 5));
+    }
+
+    @Test
+    public void test_indexOf_pattern_finds_the_first_occurrence() {
+        byte[] values = "abcabdabcabe".getBytes();
+        assertEquals(6, ArrayUtil.indexOf(values, "abcabe".getBytes()));
+        assertEquals(2, ArrayUtil.indexOf(values, "ca".getBytes()));
+        assertEquals(-1, ArrayUtil.indexOf(values, "abf".getBytes()));
+        assertEquals(0, ArrayUtil.indexOf(values, new byte[0]));
+        assertEquals(-1, ArrayUtil.indexOf("ab".getBytes(), "abc".getBytes()));
+    }
+
+    @Test
+    public void test_contains_object_uses_equals() {
+        assertTrue(ArrayUtil.contains(new Object[]{"a", null, new String("b")}, "b"));
+        assertTrue(ArrayUtil.contains(new Object[]{"a", null}, null));
+        assertFalse(ArrayUtil.contains(new Object[]{"a"}, "b"));
+    }
+
+    @Test
+    public void test_fill_repeats_the_pattern() {
+        int[] ints = new int[11];
+        ArrayUtil.fill(ints, new int[]{1, 2, 3});
+        assertArrayEquals(new int[]{1, 2, 3, 1, 2, 3, 1, 2, 3, 1, 2}, ints);
+
+        long[] longs = new long[2];
+        ArrayUtil.fill(longs, new long[]{4, 5, 6});
+        assertArrayEquals(new long[]{4, 5}, longs);
+    }
+
+    @Test
+    public void test_copyStrided_copies_every_stride_element() {
+        int[] source = IntStream.range(0, 10).toArray();
+        assertArrayEquals(new int[]{1, 4, 7}, ArrayUtil.copyStrided(source, 1, 3, new int[3]));
+        assertArrayEquals(new long[0], ArrayUtil.copyStrided(new long[0], 0, 1, new long[0]));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_copyStrided_rejects_elements_past_the_source() {
+        ArrayUtil.copyStrided(new int[10], 1, 3, new int[4]);
+    }
+}
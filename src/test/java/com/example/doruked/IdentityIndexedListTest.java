@@ -0,0 +1,106 @@
+package com.example.doruked;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class IdentityIndexedListTest {
+
+    @Test
+    public void test_random_operations_keep_index_coherent_with_a_linear_search() {
+        IdentityIndexedList<Object> list = new IdentityIndexedList<>();
+        List<Object> expected = new ArrayList<>();
+        List<Object> pool = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            pool.add(new Object());
+        }
+        pool.add(null);
+        Random random = new Random(11);
+
+        for (int i = 0; i < 5_000; i++) {
+            Object e = pool.get(random.nextInt(pool.size()));
+            int op = random.nextInt(10);
+            if (op < 4 || expected.isEmpty()) {
+                list.add(e);
+                expected.add(e);
+            } else if (op < 6) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, e);
+                expected.add(index, e);
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size());
+                assertSame(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertSame(expected.set(index, e), list.set(index, e));
+            }
+            Object sought = pool.get(random.nextInt(pool.size()));
+            assertEquals(helperLinearIndex(expected, sought), list.indexOfReference(sought));
+        }
+    }
+
+    @Test
+    public void test_index_distinguishes_equal_elements_by_reference() {
+        String first = new String("a");
+        String second = new String("a");
+        IdentityIndexedList<String> list = new IdentityIndexedList<>(List.of("b", first, second));
+
+        assertEquals(2, list.indexOfReference(second));
+        assertFalse(list.containsReference(new String("a")));
+        assertEquals(1, list.indexOf(second));
+    }
+
+    @Test
+    public void test_index_survives_appends_and_resizes() {
+        IdentityIndexedList<Object> list = new IdentityIndexedList<>();
+        List<Object> added = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            Object e = new Object();
+            list.add(e);
+            added.add(e);
+            assertEquals(i, list.indexOfReference(e));
+        }
+        for (int i = 0; i < added.size(); i++) {
+            assertEquals(i, list.indexOfReference(added.get(i)));
+        }
+        list.subList(10, 1_000).clear();
+        assertEquals(-1, list.indexOfReference(added.get(10)));
+        assertEquals(9, list.indexOfReference(added.get(9)));
+    }
+
+    @Test
+    public void test_ListUtil_reference_lookups_use_the_index() {
+        Object a = new Object(), b = new Object(), c = new Object();
+        IdentityIndexedList<Object> list = new IdentityIndexedList<>(List.of(a, b, c));
+
+        assertEquals(1, ListUtil.getReferenceIndex(list, b));
+        assertTrue(ListUtil.containsReference(list, c));
+        assertSame(c, ListUtil.getNextFromReference(list, b));
+        assertSame(a, ListUtil.getPreviousFromReference(list, b));
+        assertNull(ListUtil.getNextFromReference(list, c));
+        list.remove(0);
+        assertNull(ListUtil.getPreviousFromReference(list, b));
+    }
+
+    @Test
+    public void test_removeIf_discards_the_index() {
+        Object a = new Object(), b = new Object(), c = new Object();
+        IdentityIndexedList<Object> list = new IdentityIndexedList<>(List.of(a, b, c));
+        assertEquals(2, list.indexOfReference(c));
+
+        assertEquals(List.of(a), ListUtil.removeIf(e -> e == a, list));
+        assertEquals(1, list.indexOfReference(c));
+        assertFalse(list.containsReference(a));
+    }
+
+    private static int helperLinearIndex(List<?> list, Object reference) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == reference) return i;
+        }
+        return -1;
+    }
+}
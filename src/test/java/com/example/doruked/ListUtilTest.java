@@ -2,9 +2,17 @@ package com.example.doruked;
 
 import org.junit.Test;
 
+import java.util.AbstractList;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -45,6 +53,55 @@ public class ListUtilTest {
         assertNull(some);
     }
 
+    @Test
+    public void test_getSomeAt_matches_getSome() {
+        List<Integer> list = List.of(1, 2, 3, 4, 5);
+        for (int offset = -6; offset <= 6; offset++) {
+            int shift = offset;
+            assertEquals(ListUtil.getSome(list, e -> e.equals(3), i -> i + shift),
+                    ListUtil.getSomeAt(list, e -> e.equals(3), i -> i + shift));
+        }
+    }
+
+    @Test
+    public void test_getNextFromAll_and_getPreviousFromAll_match_single_lookups_of_contained_targets() {
+        List<Integer> array = new ArrayList<>(List.of(5, 3, 8, 3, 1, 9));
+        List<Integer> targets = List.of(5, 3, 9, 1, 3);
+        for (List<Integer> list : List.of(array, new LinkedList<>(array))) {
+            List<Integer> next = new ArrayList<>();
+            List<Integer> previous = new ArrayList<>();
+            for (Integer target : targets) {
+                next.add(ListUtil.getNextFrom(list, target));
+                previous.add(ListUtil.getPreviousFrom(list, target));
+            }
+            assertEquals(next, ListUtil.getNextFromAll(list, targets));
+            assertEquals(previous, ListUtil.getPreviousFromAll(list, targets));
+        }
+    }
+
+    @Test
+    public void test_getNextFromAll_differs_from_single_lookups_for_absent_and_null_targets() {
+        List<Integer> list = new ArrayList<>(List.of(5, 3, 8, 1, 9));
+        assertEquals(Integer.valueOf(5), ListUtil.getNextFrom(list, 7));
+        assertEquals(Arrays.asList(null, 9), ListUtil.getNextFromAll(list, List.of(7, 1)));
+
+        List<Integer> withNull = Arrays.asList(5, null, 8);
+        List<Integer> nullTarget = Collections.singletonList(null);
+        assertEquals(List.of(8), ListUtil.getNextFromAll(withNull, nullTarget));
+        assertEquals(List.of(5), ListUtil.getPreviousFromAll(withNull, nullTarget));
+    }
+
+    @Test
+    public void test_getNextFromReferenceAll_matches_by_reference() {
+        String first = new String("a");
+        String second = new String("a");
+        List<String> list = List.of(first, "b", second, "c");
+
+        assertEquals(Arrays.asList("b", "c", null), ListUtil.getNextFromReferenceAll(list, List.of(first, second, new String("a"))));
+        assertEquals(Arrays.asList(null, "b"), ListUtil.getPreviousFromReferenceAll(list, List.of(first, second)));
+        assertEquals(Arrays.asList("b", "b"), ListUtil.getNextFromAll(list, List.of(first, second)));
+    }
+
     @Test
     public void test_duplicateIndex_does_not_throw_IndexOutOfBounds_when_targeting_last_index(){
         Integer[] ar = {1,2,3,4,5};
@@ -58,4 +115,202 @@ public class ListUtilTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    public void test_removeIf_returns_removed_and_keeps_order_for_each_collection_type() {
+        List<Collection<Integer>> collections = List.of(new ArrayList<>(), new LinkedList<>(),
+                new ArrayDeque<>(), new ArrayBackedList<>(), new Vector<>(), new CopyOnWriteArrayList<>(),
+                Collections.synchronizedList(new ArrayList<>()), new IdentityIndexedList<>());
+        for (Collection<Integer> collection : collections) {
+            for (int i = 0; i < 10; i++) {
+                collection.add(i);
+            }
+            List<Integer> removed = ListUtil.removeIf(e -> e % 3 == 0, collection);
+
+            assertEquals(List.of(0, 3, 6, 9), removed);
+            assertEquals(List.of(1, 2, 4, 5, 7, 8), new ArrayList<>(collection));
+        }
+    }
+
+    @Test
+    public void test_removeIf_leaves_fixed_size_list_unmodified() {
+        List<Integer> list = Arrays.asList(1, 2, 3, 4, 5);
+        try {
+            ListUtil.removeIf(e -> e % 2 == 0, list);
+            fail("expected UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            assertEquals(List.of(1, 2, 3, 4, 5), list);
+        }
+    }
+
+    @Test
+    public void test_removeIf_uses_the_list_own_bulk_removal_when_overridden() {
+        BulkRemovalList<Integer> list = new BulkRemovalList<>();
+        list.addAll(List.of(1, 2, 3, 4));
+
+        assertEquals(List.of(2, 4), ListUtil.removeIf(e -> e % 2 == 0, list));
+        assertEquals(List.of(1, 3), list);
+        assertEquals(1, list.bulkRemovals);
+    }
+
+    @Test
+    public void test_removeIf_leaves_random_access_list_unmodified_when_predicate_throws() {
+        List<Integer> list = new ArrayBackedList<>();
+        list.addAll(List.of(1, 2, 3, 4, 5));
+        try {
+            ListUtil.removeIf(e -> {
+                if (e == 4) throw new IllegalStateException();
+                return e % 2 == 0;
+            }, list);
+            fail("expected failure");
+        } catch (IllegalStateException expected) {
+            assertEquals(List.of(1, 2, 3, 4, 5), list);
+        }
+    }
+
+    @Test
+    public void test_remove_removes_the_matched_element_rather_than_an_equal_one() {
+        String first = new String("a");
+        String second = new String("a");
+        for (List<String> list : List.of(new ArrayList<>(List.of(first, second)), new LinkedList<>(List.of(first, second)))) {
+            assertSame(second, ListUtil.remove(e -> e == second, list));
+            assertEquals(1, list.size());
+            assertSame(first, list.get(0));
+            assertNull(ListUtil.remove(e -> e == second, list));
+        }
+    }
+
+    @Test
+    public void test_trimToIndex_removes_elements_after_bound_in_reverse() {
+        List<Integer> list = new ArrayList<>(List.of(0, 1, 2, 3, 4));
+        assertEquals(List.of(4, 3), ListUtil.trimToIndex(list, 2));
+        assertEquals(List.of(0, 1, 2), list);
+        assertTrue(ListUtil.trimToIndex(list, 2).isEmpty());
+    }
+
+    @Test
+    public void test_trimToIndex_can_discard_removed_elements() {
+        List<Integer> list = new LinkedList<>(List.of(0, 1, 2, 3, 4));
+        assertTrue(ListUtil.trimToIndex(list, 0, false).isEmpty());
+        assertEquals(List.of(0), list);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_trimToIndex_rejects_bound_outside_list() {
+        ListUtil.trimToIndex(new ArrayList<>(List.of(0, 1)), 2);
+    }
+
+    @Test
+    public void test_parallel_variants_match_sequential_results_in_order() {
+        List<Integer> array = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            array.add(i);
+        }
+        for (Collection<Integer> values : List.of(array, new LinkedList<>(array))) {
+            Predicate<Integer> pred = e -> e % 7 == 3;
+            assertEquals(ListUtil.getIf(pred, values), ListUtil.getIfParallel(pred, values, 0));
+            assertEquals(ListUtil.unbox(values, e -> e * 2), ListUtil.unboxParallel(values, e -> e * 2, 0));
+            assertEquals(30_000, ListUtil.getParallel(e -> e >= 30_000, values, 0).intValue());
+            assertNull(ListUtil.getParallel(e -> e < 0, values, 0));
+        }
+    }
+
+    @Test
+    public void test_parallel_variants_below_threshold_are_sequential() {
+        List<Integer> values = List.of(3, 1, 2);
+        assertEquals(List.of(3, 2), ListUtil.getIfParallel(e -> e > 1, values));
+        assertEquals(List.of("3", "1", "2"), ListUtil.unboxParallel(values, String::valueOf));
+        assertEquals(1, ListUtil.getParallel(e -> e < 3, values).intValue());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_parallel_threshold_must_not_be_negative() {
+        ListUtil.getIfParallel(e -> true, List.of(1), -1);
+    }
+
+    @Test
+    public void test_pipeline_matches_chained_ListUtil_calls() {
+        List<Integer> array = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            array.add(i);
+        }
+        for (List<Integer> values : List.of(array, new LinkedList<>(array))) {
+            List<String> chained = ListUtil.unbox(ListUtil.getIf(e -> e % 3 == 0, values), String::valueOf).subList(0, 5);
+            ListUtil.Pipeline<String> pipeline = ListUtil.pipeline(values).filter(e -> e % 3 == 0).map(String::valueOf);
+
+            assertEquals(chained, pipeline.limit(5).toList());
+            assertEquals(34, pipeline.count());
+            assertEquals("12", pipeline.first(e -> e.length() == 2));
+            assertTrue(pipeline.anyMatch("99"::equals));
+            assertNull(pipeline.first(String::isEmpty));
+        }
+    }
+
+    @Test
+    public void test_pipeline_stops_visiting_the_source_once_limit_is_reached() {
+        List<Integer> visited = new ArrayList<>();
+        List<Integer> result = ListUtil.pipeline(List.of(1, 2, 3, 4, 5, 6))
+                .map(e -> {
+                    visited.add(e);
+                    return e;
+                })
+                .filter(e -> e % 2 == 0)
+                .limit(2)
+                .toList();
+
+        assertEquals(List.of(2, 4), result);
+        assertEquals(List.of(1, 2, 3, 4), visited);
+        assertTrue(ListUtil.pipeline(List.of(1, 2)).limit(0).toList().isEmpty());
+    }
+
+    @Test
+    public void test_pipeline_reflects_the_current_source_on_each_terminal() {
+        List<Integer> source = new ArrayList<>();
+        ListUtil.Pipeline<Integer> pipeline = ListUtil.pipeline(source).map(e -> e * 2);
+        assertTrue(pipeline.toList().isEmpty());
+
+        source.addAll(List.of(1, 2, 3));
+        assertEquals(List.of(2, 4, 6), pipeline.toList());
+        assertEquals(List.of(2, 4), pipeline.limit(2).toList());
+        assertEquals(List.of(2, 4, 6), pipeline.toList());
+    }
+
+    /** a random access list that relies on AbstractList for bulk removal */
+    private static class ArrayBackedList<E> extends AbstractList<E> implements RandomAccess {
+        private final List<E> elements = new ArrayList<>();
+
+        @Override
+        public E get(int index) {
+            return elements.get(index);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            return elements.set(index, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            elements.add(index, element);
+        }
+
+        @Override
+        public E remove(int index) {
+            return elements.remove(index);
+        }
+
+        @Override
+        public int size() {
+            return elements.size();
+        }
+    }
+
+    private static final class BulkRemovalList<E> extends ArrayBackedList<E> {
+        private int bulkRemovals;
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            bulkRemovals++;
+            return super.removeIf(filter);
+        }
+    }
+}
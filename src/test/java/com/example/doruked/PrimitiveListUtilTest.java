@@ -0,0 +1,98 @@
+package com.example.doruked;
+
+import org.junit.Test;
+
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveListUtilTest {
+
+    @Test
+    public void test_getIf_and_map_keep_order_for_arrays_and_lists() {
+        int[] values = {5, 1, 4, 2, 3};
+        assertArrayEquals(new int[]{1, 2}, IntListUtil.getIf(e -> e < 3, values));
+        assertArrayEquals(new int[]{10, 2, 8, 4, 6}, IntListUtil.map(values, e -> e * 2));
+        assertEquals(IntList.of(4, 3), IntListUtil.getIf(e -> e > 2 && e != 5, IntList.of(values)));
+
+        LongList longs = LongList.of(1L, 2L, 3L);
+        assertEquals(LongList.of(3L, 4L, 5L), LongListUtil.map(longs, e -> e + 2));
+        assertEquals(0, LongListUtil.getIf(e -> e > 3, longs).size());
+    }
+
+    @Test
+    public void test_getNextFrom_and_getPreviousFrom_return_empty_at_the_edges() {
+        IntList list = IntList.of(1, 2, 3);
+        assertEquals(OptionalInt.of(2), IntListUtil.getNextFrom(list, 1));
+        assertEquals(OptionalInt.empty(), IntListUtil.getNextFrom(list, 3));
+        assertEquals(OptionalInt.empty(), IntListUtil.getPreviousFrom(list, 1));
+        assertEquals(OptionalInt.empty(), IntListUtil.getNextFrom(list, 9));
+
+        long[] longs = {7L, 8L, 9L};
+        assertEquals(OptionalLong.of(8L), LongListUtil.getPreviousFrom(longs, 9L));
+        assertEquals(2, LongListUtil.indexOf(longs, 9L));
+        assertEquals(-1, LongListUtil.getIndex(longs, e -> e > 9L));
+    }
+
+    @Test
+    public void test_getSome_ignores_elements_beyond_the_size_of_the_list() {
+        IntList list = new IntList(16);
+        list.addAll(1, 2, 3);
+        assertEquals(OptionalInt.empty(), IntListUtil.getSome(list, e -> e == 3, i -> i + 1));
+        assertEquals(-1, IntListUtil.getIndex(list, e -> e == 0));
+    }
+
+    @Test
+    public void test_trimToIndex_removes_elements_after_bound_in_reverse() {
+        IntList list = IntList.of(0, 1, 2, 3, 4);
+        assertArrayEquals(new int[]{4, 3}, IntListUtil.trimToIndex(list, 2));
+        assertEquals(IntList.of(0, 1, 2), list);
+        assertEquals(0, IntListUtil.trimToIndex(list, 0, false).length);
+        assertEquals(IntList.of(0), list);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_trimToIndex_rejects_bound_outside_list() {
+        LongListUtil.trimToIndex(LongList.of(0L, 1L), 2);
+    }
+
+    @Test
+    public void test_duplicateIndex_inserts_after_the_target() {
+        IntList list = IntList.of(1, 2, 3);
+        IntListUtil.duplicateIndex(list, 2, e -> e * 10);
+        IntListUtil.duplicateIndex(list, 0);
+        assertEquals(IntList.of(1, 1, 2, 3, 30), list);
+    }
+
+    @Test
+    public void test_addAmount_and_addSupplied_append_the_requested_amount() {
+        LongList list = new LongList();
+        LongListUtil.addAmount(list, 3, 7L);
+        AtomicLong counter = new AtomicLong();
+        LongListUtil.addSupplied(list, 2, counter::incrementAndGet);
+        assertEquals(LongList.of(7L, 7L, 7L, 1L, 2L), list);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_addAmount_rejects_negative_amount() {
+        IntListUtil.addAmount(new IntList(), -1, 0);
+    }
+
+    @Test
+    public void test_list_grows_and_truncates() {
+        IntList list = new IntList(0);
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertEquals(100, list.size());
+        assertEquals(99, list.last());
+        assertEquals(4950, list.stream().sum());
+        assertEquals(5, list.removeAt(5));
+        list.truncate(10);
+        assertEquals(10, list.size());
+        assertTrue(list.contains(10));
+        assertFalse(list.contains(5));
+    }
+}
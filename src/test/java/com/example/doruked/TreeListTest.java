@@ -0,0 +1,89 @@
+package com.example.doruked;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TreeListTest {
+
+    private TreeList<Integer> list;
+    private List<Integer> expected;
+    private Random random;
+
+    @Before
+    public void setUp() {
+        list = new TreeList<>();
+        expected = new ArrayList<>();
+        random = new Random(7);
+    }
+
+    @Test
+    public void test_random_operations_match_ArrayList() {
+        for (int i = 0; i < 20_000; i++) {
+            int op = random.nextInt(10);
+            if (op < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list.add(index, i);
+                expected.add(index, i);
+            } else if (op < 8) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), list.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -i), list.set(index, -i));
+            }
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected, list);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void test_iterator_remove_matches_ArrayList() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+            expected.add(i);
+        }
+        list.removeIf(e -> e % 3 == 0);
+        expected.removeIf(e -> e % 3 == 0);
+
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void test_forEach_visits_in_order() {
+        for (int i = 0; i < 100; i++) {
+            list.add(0, i);
+            expected.add(0, i);
+        }
+        List<Integer> visited = new ArrayList<>();
+        list.forEach(visited::add);
+
+        assertEquals(expected, visited);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void test_iterator_fails_fast() {
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> it = list.iterator();
+        it.next();
+        list.add(3);
+        it.next();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_get_out_of_range_throws() {
+        list.add(1);
+        list.get(1);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.doruked.node;
+
+import com.example.doruked.node.FrozenTree.FrozenNode;
+import com.example.doruked.node.iterators.DiveIterator;
+import com.example.doruked.node.iterators.NodePath;
+import com.example.doruked.node.mynodes.MyNode;
+import com.example.doruked.node.mynodes.Node;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class FrozenTreeTest {
+
+    private FrozenTree<Integer> tree;
+
+    //tree: 0 -> (1 -> (3, 4 -> (6)), 2 -> (5))
+    @Before
+    public void setUp() {
+        Node<Integer> head = new MyNode<>(0);
+        Node<Integer> left = head.addChild(1);
+        Node<Integer> right = head.addChild(2);
+        left.addChild(3);
+        Node<Integer> inner = left.addChild(4);
+        right.addChild(5);
+        inner.addChild(6);
+        tree = FrozenTree.freeze(head);
+    }
+
+    @Test
+    public void test_nodes_are_stored_in_pre_order() {
+        assertEquals(7, tree.size());
+        assertEquals(List.of(0, 1, 3, 4, 6, 2, 5), tree.getHeadNode().getAllData());
+    }
+
+    @Test
+    public void test_descendants_are_a_contiguous_slice() {
+        FrozenNode<Integer> left = tree.getNode(e -> e == 1);
+        assertEquals(List.of(3, 4, 6), left.getDescendingData());
+        assertEquals(3, left.getDescendantCount());
+        assertEquals(List.of(3, 4, 6), left.streamDescendingData().collect(Collectors.toList()));
+        assertEquals(List.of(4, 6), left.getDescendingIf(e -> e % 2 == 0));
+    }
+
+    @Test
+    public void test_structure_is_preserved() {
+        FrozenNode<Integer> head = tree.getHeadNode();
+        assertEquals(List.of(1, 2), head.getChildData());
+        assertTrue(head.isHead());
+
+        FrozenNode<Integer> six = tree.getNode(e -> e == 6);
+        assertEquals(4, six.getParentData().intValue());
+        assertEquals(head, six.getTreeHeadNode());
+        assertTrue(six.isLeaf());
+        assertEquals(List.of(3, 4), six.getParentNode().getSiblingData());
+    }
+
+    @Test
+    public void test_containsDescendant_uses_ranges() {
+        FrozenNode<Integer> left = tree.getNode(e -> e == 1);
+        assertTrue(left.containsDescendant(tree.getNode(e -> e == 6)));
+        assertFalse(left.containsDescendant(tree.getNode(e -> e == 5)));
+        assertFalse(left.containsDescendant(left));
+    }
+
+    @Test
+    public void test_freezing_a_deep_chain() {
+        Node<Integer> head = new MyNode<>(0);
+        Node<Integer> node = head;
+        for (int i = 1; i < 100_000; i++) {
+            node = node.addChild(i);
+        }
+        FrozenTree<Integer> chain = FrozenTree.freeze(head);
+        assertEquals(99_999, chain.getHeadNode().getDescendantCount());
+        assertEquals(0, chain.getNode(99_999).getDescendantCount());
+    }
+
+    @Test(timeout = 5_000)
+    public void test_DiveIterator_visits_every_frozen_node_once_in_pre_order() {
+        DiveIterator<FrozenNode<Integer>> iterator = new DiveIterator<>(tree.getHeadNode());
+        List<Integer> visited = new ArrayList<>();
+        while (iterator.hasNext()) {
+            visited.add(iterator.next().getData());
+        }
+        assertEquals(List.of(0, 1, 3, 4, 6, 2, 5), visited);
+    }
+
+    @Test
+    public void test_accessors_return_the_same_node_instances() {
+        FrozenNode<Integer> six = tree.getNode(e -> e == 6);
+        assertSame(six, six.getParentNode().getChildNodes().get(0));
+        assertSame(tree.getHeadNode(), six.getTreeHeadNode());
+        assertSame(six, tree.getHeadNode().getDescendingNodes().get(3));
+        assertSame(six, NodePath.resolve(tree.getHeadNode(), NodePath.pathOf(six)));
+    }
+
+    @Test
+    public void test_getChildNodeAt_matches_getChildNodes() {
+        for (int i = 0; i < tree.size(); i++) {
+            FrozenNode<Integer> node = tree.getNode(i);
+            List<FrozenNode<Integer>> children = node.getChildNodes();
+            for (int c = 0; c < children.size(); c++) {
+                assertSame(children.get(c), node.getChildNodeAt(c));
+            }
+            try {
+                node.getChildNodeAt(children.size());
+                fail("expected IndexOutOfBoundsException");
+            } catch (IndexOutOfBoundsException expected) {
+            }
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_frozen_nodes_can_not_be_modified() {
+        tree.getHeadNode().addChild(7);
+    }
+}
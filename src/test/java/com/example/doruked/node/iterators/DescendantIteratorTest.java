@@ -0,0 +1,80 @@
+package com.example.doruked.node.iterators;
+
+import com.example.doruked.node.mynodes.MyNode;
+import com.example.doruked.node.mynodes.Node;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class DescendantIteratorTest {
+
+    private Node<Integer> head;
+    private Node<Integer> left;
+
+    //tree: 0 -> (1 -> (3, 4 -> (6)), 2 -> (5))
+    @Before
+    public void setUp() {
+        head = new MyNode<>(0);
+        left = head.addChild(1);
+        Node<Integer> right = head.addChild(2);
+        left.addChild(3);
+        Node<Integer> inner = left.addChild(4);
+        right.addChild(5);
+        inner.addChild(6);
+    }
+
+    @Test
+    public void test_stream_matches_eager_order() {
+        assertEquals(head.getDescendingData(), head.streamDescendingData().collect(Collectors.toList()));
+        assertEquals(head.getAllData(), left.streamAllData().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void test_stream_stays_within_subtree() {
+        assertEquals(List.of(3, 4, 6), left.streamDescendingData().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void test_filtered_streams_match_eager_results() {
+        assertEquals(head.getDataIf(e -> e.getData() % 2 == 0),
+                     head.streamDataIf(e -> e.getData() % 2 == 0).collect(Collectors.toList()));
+        assertEquals(head.getDescendingIf(e -> e.getData() > 2),
+                     head.streamDescendingIf(e -> e.getData() > 2).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void test_children_are_only_retrieved_when_reached() {
+        AtomicInteger retrievals = new AtomicInteger();
+        Node<Integer> first = DescendantIterator.stream(head, false, e -> {
+            retrievals.incrementAndGet();
+            return e.getChildNodes();
+        }).findFirst().orElseThrow();
+
+        assertEquals(1, first.getData().intValue());
+        assertEquals(1, retrievals.get()); //only the head's children
+    }
+
+    @Test
+    public void test_parent_is_included_when_requested() {
+        DescendantIterator<Integer> it = new DescendantIterator<>(left, true, Node::getChildNodes);
+        assertSame(left, it.next());
+    }
+
+    @Test
+    public void test_clearData_clears_last_returned() {
+        DescendantIterator<Integer> it = new DescendantIterator<>(head);
+        Node<Integer> node = it.next();
+        it.clearData();
+        assertNull(node.getData());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_clearData_before_next_throws() {
+        new DescendantIterator<>(head).clearData();
+    }
+}
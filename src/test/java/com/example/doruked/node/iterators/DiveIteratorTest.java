@@ -13,6 +13,7 @@ import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 
 /**
  * @implNote
@@ -110,12 +111,20 @@ public class DiveIteratorTest implements IteratorTest {
         assertFalse(iterator.hasNext());
     }
 
-    @Test(expected = UnsupportedOperationException.class)
-    public void test_that_clearData_is_Unsupported() {
-        initIterator(head);
+    @Test(expected = IllegalStateException.class)
+    public void test_that_clearData_requires_next() {
+        iterator = new DiveIterator<>(head);
         iterator.clearData();
     }
 
+    @Test
+    public void test_that_clearData_clears_last_returned() {
+        iterator = new DiveIterator<>(head);
+        Node<Integer> returned = iterator.next();
+        iterator.clearData();
+        assertNull(returned.getData());
+    }
+
     @Test
     @Override
     public void test_that_next_visits_every_node() {
@@ -0,0 +1,110 @@
+package com.example.doruked.node.iterators;
+
+import com.example.doruked.node.mynodes.MyNode;
+import com.example.doruked.node.mynodes.Node;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class NodePathTest {
+
+    private Node<Integer> head;
+    private Node<Integer> inner;
+
+    //tree: 0 -> (1 -> (3, 4 -> (6)), 2 -> (5))
+    @Before
+    public void setUp() {
+        head = new MyNode<>(0);
+        Node<Integer> left = head.addChild(1);
+        Node<Integer> right = head.addChild(2);
+        left.addChild(3);
+        inner = left.addChild(4);
+        right.addChild(5);
+        inner.addChild(6);
+    }
+
+    @Test
+    public void test_path_of_head_is_empty() {
+        assertEquals(0, NodePath.pathOf(head).length);
+    }
+
+    @Test
+    public void test_path_lists_child_indices_from_head() {
+        assertArrayEquals(new int[]{0, 1}, NodePath.pathOf(inner));
+    }
+
+    @Test
+    public void test_resolve_returns_node_at_path() {
+        Node<Integer> resolved = NodePath.resolve(head, NodePath.pathOf(inner.getChildNodes().get(0)));
+        assertEquals(6, resolved.getData().intValue());
+    }
+
+    @Test
+    public void test_resolve_does_not_copy_child_lists() {
+        List<Node<Integer>> copied = new ArrayList<>();
+        Node<Integer> counted = new MyNode<>(0) {
+            @Override
+            public List<Node<Integer>> getChildNodes() {
+                copied.add(this);
+                return super.getChildNodes();
+            }
+        };
+        counted.addChild(1);
+        Node<Integer> second = counted.addChild(2);
+        copied.clear();
+
+        assertSame(second, NodePath.resolve(counted, new int[]{1}));
+        assertTrue(copied.isEmpty());
+    }
+
+    @Test
+    public void test_restored_dive_iterator_continues_where_it_stopped() {
+        List<Integer> expected = drain(new DiveIterator<>(head));
+        for (int stop = 0; stop <= expected.size(); stop++) {
+            DiveIterator<Node<Integer>> it = new DiveIterator<>(head);
+            List<Integer> actual = advance(it, stop);
+
+            actual.addAll(drain(DiveIterator.restore(head, it.checkpoint())));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void test_restored_sweep_iterator_continues_where_it_stopped() {
+        List<Integer> expected = drain(SweepIterator.fromHead(head));
+        for (int stop = 1; stop <= expected.size(); stop++) {
+            SweepIterator<Integer> it = SweepIterator.fromHead(head);
+            List<Integer> actual = advance(it, stop);
+
+            actual.addAll(drain(SweepIterator.restore(head, it.checkpoint())));
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void test_completed_iterator_has_null_checkpoint() {
+        DiveIterator<Node<Integer>> it = new DiveIterator<>(head);
+        drain(it);
+        assertNull(it.checkpoint());
+        assertFalse(DiveIterator.restore(head, null).hasNext());
+    }
+
+//helpers
+
+    private static List<Integer> advance(Iterator<Node<Integer>> it, int amount) {
+        List<Integer> visited = new ArrayList<>();
+        for (int i = 0; i < amount && it.hasNext(); i++) {
+            visited.add(it.next().getData());
+        }
+        return visited;
+    }
+
+    private static List<Integer> drain(Iterator<Node<Integer>> it) {
+        return advance(it, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.doruked.node.mynodes;
+
+import com.example.doruked.Monoid;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+public class AggregateNodeTest {
+
+    private AtomicInteger mapped;
+    private Function<Integer, Integer> countingIdentity;
+    private Monoid<Integer> sum;
+    private AggregateNode<Integer, Integer> head;
+    private Node<Integer> left;
+    private Node<Integer> right;
+    private Node<Integer> leaf;
+
+    //tree: 1 -> (2 -> (4), 3)
+    @Before
+    public void setUp() {
+        mapped = new AtomicInteger();
+        countingIdentity = e -> {
+            mapped.incrementAndGet();
+            return e;
+        };
+        sum = Monoid.intSum();
+        head = new AggregateNode<>(1, countingIdentity, sum);
+        left = head.addChild(2);
+        right = head.addChild(3);
+        leaf = left.addChild(4);
+    }
+
+    @Test
+    public void test_aggregate_equals_the_sum_of_the_subtree() {
+        assertEquals(10, head.getAggregate().intValue());
+        assertEquals(6, aggregateOf(left));
+        assertEquals(3, aggregateOf(right));
+    }
+
+    @Test
+    public void test_added_nodes_are_aggregated() {
+        assertTrue(left instanceof AggregateNode);
+        assertTrue(leaf instanceof AggregateNode);
+    }
+
+    @Test
+    public void test_cached_aggregate_is_returned_when_unmodified() {
+        head.getAggregate();
+        int count = mapped.get();
+
+        head.getAggregate();
+        assertEquals(count, mapped.get());
+    }
+
+    @Test
+    public void test_setData_updates_ancestor_aggregates() {
+        head.getAggregate();
+        leaf.setData(10);
+
+        assertEquals(16, head.getAggregate().intValue());
+        assertEquals(12, aggregateOf(left));
+    }
+
+    @Test
+    public void test_only_the_modified_path_is_recomputed() {
+        head.getAggregate();
+        mapped.set(0);
+
+        leaf.setData(10);
+        head.getAggregate();
+
+        assertEquals(3, mapped.get()); //leaf, left, head
+        assertFalse(((AggregateNode<?, ?>) right).isDirty());
+    }
+
+    @Test
+    public void test_added_child_updates_aggregates() {
+        head.getAggregate();
+        right.addChild(5);
+
+        assertEquals(15, head.getAggregate().intValue());
+        assertEquals(8, aggregateOf(right));
+    }
+
+    @Test
+    public void test_removed_child_updates_aggregates() {
+        head.getAggregate();
+        head.removeChild(0);
+
+        assertEquals(4, head.getAggregate().intValue());
+    }
+
+    @Test
+    public void test_tree_aggregate_is_retrieved_from_any_node() {
+        assertEquals(10, ((AggregateNode<?, ?>) leaf).getTreeAggregate());
+    }
+
+    @Test
+    public void test_modifying_below_an_added_subtree_updates_aggregates() {
+        Node<Integer> subtree = new MyNode<>(5);
+        Node<Integer> grandchild = subtree.addChild(6);
+        head.getAggregate();
+
+        Node<Integer> added = head.addChild(subtree);
+        Node<Integer> addedGrandchild = added.getChildNodes().get(0);
+        assertTrue(addedGrandchild instanceof AggregateNode);
+        assertSame(added, addedGrandchild.getParentNode());
+        assertEquals(21, head.getAggregate().intValue());
+
+        addedGrandchild.setData(100);
+        assertEquals(115, head.getAggregate().intValue());
+        assertSame(subtree, grandchild.getParentNode());
+        assertEquals(6, grandchild.getData().intValue());
+    }
+
+    @Test
+    public void test_invalidation_climbs_past_foreign_ancestors() {
+        //an equivalent, but different, monoid makes the middle node foreign
+        AggregateNode<Integer, Integer> foreign = new AggregateNode<>(20, head, new ArrayList<>(), countingIdentity, Monoid.intSum());
+        head.hGetChildNodes().add(foreign);
+        AggregateNode<Integer, Integer> below = new AggregateNode<>(7, foreign, new ArrayList<>(), countingIdentity, sum);
+        foreign.hGetChildNodes().add(below);
+        head.invalidate();
+        assertEquals(37, head.getAggregate().intValue());
+
+        below.setData(8);
+        assertEquals(38, head.getAggregate().intValue());
+        assertEquals(38, below.getTreeAggregate().intValue());
+        assertEquals(28, foreign.getAggregate().intValue());
+    }
+
+    @Test
+    public void test_max_keeps_the_greatest_value() {
+        AggregateNode<Integer, Integer> max = new AggregateNode<>(1, Function.identity(), Monoid.max(Integer::compare));
+        max.addChild(7).addChild(3);
+        max.addChild(5);
+
+        assertEquals(7, max.getAggregate().intValue());
+    }
+
+//helpers
+
+    @SuppressWarnings("unchecked")
+    private static int aggregateOf(Node<Integer> node) {
+        return ((AggregateNode<Integer, Integer>) node).getAggregate();
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.doruked.node.mynodes;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class ArenaNodeTest {
+
+    private NodeArena<Integer> arena;
+    private ArenaNode<Integer> head;
+
+    @Before
+    public void setUp() {
+        arena = new NodeArena<>(4);
+        head = arena.allocate(0);
+    }
+
+    @Test
+    public void test_added_nodes_are_allocated_from_the_arena() {
+        Node<Integer> child = head.addChild(1);
+        child.addChild(2);
+
+        assertTrue(child instanceof ArenaNode);
+        assertSame(arena, ((ArenaNode<Integer>) child).getArena());
+        assertEquals(3, arena.size());
+        assertEquals(List.of(1, 2), head.getDescendingData());
+    }
+
+    @Test
+    public void test_added_subtree_is_copied_into_the_arena() {
+        Node<Integer> foreign = new MyNode<>(1);
+        foreign.addChild(2).addChild(3);
+
+        Node<Integer> added = head.addChild(foreign);
+        Node<Integer> grandchild = added.getChildNodes().get(0);
+        assertTrue(grandchild instanceof ArenaNode);
+        assertSame(added, grandchild.getParentNode());
+        assertEquals(4, arena.size());
+
+        grandchild.addChild(4);
+        assertEquals(List.of(1, 2, 3, 4), head.getDescendingData());
+        assertEquals(List.of(2, 3), foreign.getDescendingData());
+    }
+
+    @Test
+    public void test_invalid_index_does_not_allocate() {
+        try {
+            head.addChild(new MyNode<>(1), 1);
+            fail("expected IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException expected) {
+            assertEquals(1, arena.size());
+        }
+    }
+
+    @Test
+    public void test_arena_grows_by_slab() {
+        for (int i = 1; i <= 4; i++) {
+            head.addChild(i);
+        }
+        assertEquals(5, arena.size());
+        assertEquals(8, arena.capacity());
+    }
+
+    @Test
+    public void test_released_nodes_are_reused() {
+        Node<Integer> child = head.addChild(1);
+        arena.release();
+
+        assertEquals(0, arena.size());
+        ArenaNode<Integer> reusedHead = arena.allocate(10);
+        Node<Integer> reusedChild = reusedHead.addChild(11);
+
+        assertSame(head, reusedHead);
+        assertSame(child, reusedChild);
+        assertEquals(List.of(11), reusedHead.getDescendingData());
+        assertSame(reusedHead, reusedChild.getParentNode());
+    }
+
+    @Test
+    public void test_release_does_not_grow_capacity() {
+        for (int round = 0; round < 10; round++) {
+            ArenaNode<Integer> root = arena.allocate(0);
+            root.addChild(1).addChild(2);
+            arena.release();
+        }
+        assertEquals(4, arena.capacity());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void test_stale_node_cannot_add() {
+        arena.release();
+        assertTrue(head.isStale());
+        head.addChild(1);
+    }
+
+    @Test
+    public void test_clear_drops_references() {
+        head.addChild(1);
+        arena.clear();
+
+        assertNull(head.getData());
+        assertTrue(head.getChildNodes().isEmpty());
+        assertTrue(head.isStale());
+    }
+
+    @Test
+    public void test_pluck_keeps_tree_consistent() {
+        Node<Integer> child = head.addChild(1);
+        child.addChild(2);
+        child.addChild(3);
+
+        child.pluckNode();
+        assertEquals(List.of(2, 3), head.getDescendingData());
+    }
+}
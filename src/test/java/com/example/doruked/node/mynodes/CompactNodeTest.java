@@ -0,0 +1,106 @@
+package com.example.doruked.node.mynodes;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class CompactNodeTest {
+
+    private CompactNode<Integer> head;
+
+    @Before
+    public void setUp() {
+        head = new CompactNode<>(0);
+    }
+
+    @Test
+    public void test_two_children_are_stored_inline() {
+        head.addChild(1);
+        head.addChild(2);
+
+        assertFalse(head.isInflated());
+        assertEquals(List.of(1, 2), dataOf(head.getChildNodes()));
+    }
+
+    @Test
+    public void test_children_view_reflects_later_changes() {
+        List<Node<Integer>> view = head.hGetChildNodes();
+        head.addChild(1);
+        head.addChild(2);
+        head.addChild(3);
+
+        assertEquals(3, view.size());
+        assertEquals(List.of(1, 2, 3), dataOf(view));
+    }
+
+    @Test
+    public void test_third_child_inflates_and_preserves_order() {
+        head.addChild(1);
+        head.addChild(3);
+        head.addChild(2, 1);
+
+        assertTrue(head.isInflated());
+        assertEquals(List.of(1, 2, 3), dataOf(head.getChildNodes()));
+    }
+
+    @Test
+    public void test_children_deflate_when_one_remains() {
+        head.addChild(1);
+        head.addChild(2);
+        head.addChild(3);
+
+        head.removeChild(0);
+        assertTrue(head.isInflated());
+
+        head.removeChild(0);
+        assertFalse(head.isInflated());
+        assertEquals(List.of(3), dataOf(head.getChildNodes()));
+    }
+
+    @Test
+    public void test_inline_removal_shifts_remaining_child() {
+        head.addChild(1);
+        head.addChild(2);
+
+        assertEquals(1, head.removeChild(0).getData().intValue());
+        assertEquals(List.of(2), dataOf(head.getChildNodes()));
+    }
+
+    @Test
+    public void test_added_nodes_are_compact() {
+        Node<Integer> child = head.addChild(1);
+        Node<Integer> grandchild = child.addChild(2);
+
+        assertTrue(child instanceof CompactNode);
+        assertTrue(grandchild instanceof CompactNode);
+        assertSame(head, child.getParentNode());
+    }
+
+    @Test
+    public void test_descendants_are_traversed() {
+        Node<Integer> child = head.addChild(1);
+        head.addChild(2);
+        head.addChild(3);
+        child.addChild(4);
+
+        assertEquals(4, head.getDescendingData().size());
+        assertTrue(head.getDescendingData().containsAll(List.of(1, 2, 3, 4)));
+        assertSame(child, head.getNode(e -> e.getData() == 1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void test_add_out_of_range_throws() {
+        head.addChild(1);
+        head.addChild(2, 2);
+    }
+
+//helpers
+
+    private static List<Integer> dataOf(List<Node<Integer>> nodes) {
+        return nodes.stream().map(Node::getData).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.doruked.node.mynodes;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class DeepNodeTest {
+
+    private static final int DEPTH = 1_000_000;
+
+    private static Node<Integer> head;
+    private static Node<Integer> leaf;
+
+    //a chain, where each node is the only child of the previous
+    @BeforeClass
+    public static void setUpChain() {
+        head = new DeepNode<>(0);
+        leaf = chain(head, DEPTH);
+    }
+
+    @Test
+    public void test_head_of_million_deep_chain() {
+        assertSame(head, leaf.getTreeHeadNode());
+        for (int i = 0; i < 1000; i++) {//cached
+            assertSame(head, leaf.getTreeHeadNode());
+        }
+        assertSame(head, leaf.getParentNode().getTreeHeadNode());
+    }
+
+    @Test
+    public void test_forEach_on_million_deep_chain() {
+        AtomicInteger count = new AtomicInteger();
+        leaf.forEach(e -> count.incrementAndGet());
+        assertEquals(DEPTH, count.get());
+    }
+
+    @Test
+    public void test_traversals_on_million_deep_chain() {
+        assertEquals(DEPTH - 1, head.getDescendingNodes().size());
+        assertEquals(DEPTH, leaf.streamAllNodes().count());
+        assertSame(leaf, leaf.getNode(e -> e.getData() == DEPTH - 1));
+        assertTrue(head.containsDescendant(leaf));
+    }
+
+    @Test
+    public void test_detached_node_becomes_head_of_its_descendants() {
+        Node<Integer> top = new DeepNode<>(0);
+        Node<Integer> bottom = chain(top, 100);
+        assertSame(top, bottom.getTreeHeadNode());
+
+        Node<Integer> middle = top.getNode(e -> e.getData() == 50);
+        middle.removeParent();
+
+        assertSame(middle, bottom.getTreeHeadNode());
+        assertSame(top, top.getNode(e -> e.getData() == 49).getTreeHeadNode());
+        assertNull(top.getNode(e -> e.getData() == 50));
+    }
+
+    @Test
+    public void test_changing_one_tree_keeps_the_heads_of_others() {
+        Node<Integer> first = new DeepNode<>(0);
+        Node<Integer> firstBottom = chain(first, 20);
+        Node<Integer> second = new DeepNode<>(0);
+        Node<Integer> secondBottom = chain(second, 20);
+        assertSame(first, firstBottom.getTreeHeadNode());
+        assertSame(second, secondBottom.getTreeHeadNode());
+
+        second.getNode(e -> e.getData() == 10).removeParent();
+        assertSame(first, firstBottom.getTreeHeadNode());
+        assertSame(second, second.getNode(e -> e.getData() == 9).getTreeHeadNode());
+        assertNotSame(second, secondBottom.getTreeHeadNode());
+    }
+
+    @Test
+    public void test_cached_head_given_a_parent_is_not_returned() {
+        Node<Integer> top = new DeepNode<>(0);
+        Node<Integer> bottom = chain(top, 20);
+        assertSame(top, bottom.getTreeHeadNode());
+
+        Node<Integer> above = new DeepNode<>(-1);
+        top.setParentAs(above);
+        assertSame(above, top.getTreeHeadNode());
+        assertSame(above, bottom.getTreeHeadNode());
+    }
+
+    @Test
+    public void test_added_nodes_are_deep_nodes() {
+        Node<Integer> node = new DeepNode<>(0);
+        assertTrue(node.addChild(1) instanceof DeepNode);
+        assertTrue(node.addChild(new MyNode<>(2)) instanceof DeepNode);
+    }
+
+//helpers
+
+    private static Node<Integer> chain(Node<Integer> top, int size) {
+        Node<Integer> node = top;
+        for (int i = 1; i < size; i++) {
+            node = node.addChild(i);
+        }
+        return node;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.doruked.node.mynodes;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class SortedNodeTest {
+
+    private SortedNode<Integer> head;
+
+    @Before
+    public void setUp() {
+        head = new SortedNode<>(0, Comparator.naturalOrder());
+        for (int data : new int[]{50, 10, 40, 20, 30}) {
+            head.addChild(data);
+        }
+    }
+
+    @Test
+    public void test_children_are_kept_sorted() {
+        assertEquals(List.of(10, 20, 30, 40, 50), dataOf(head.getChildNodes()));
+    }
+
+    @Test
+    public void test_getChild_finds_by_data() {
+        assertEquals(30, head.getChild(30).getData().intValue());
+        assertNull(head.getChild(35));
+        assertNull(head.getChild(60));
+    }
+
+    @Test
+    public void test_removeChild_removes_by_data() {
+        Node<Integer> removed = head.removeChild(Integer.valueOf(20));
+
+        assertNull(removed.getParentNode());
+        assertEquals(List.of(10, 30, 40, 50), dataOf(head.getChildNodes()));
+        assertNull(head.removeChild(Integer.valueOf(20)));
+    }
+
+    @Test
+    public void test_range_includes_from_and_excludes_to() {
+        assertEquals(List.of(20, 30), dataOf(head.getChildrenInRange(20, 40)));
+        assertEquals(List.of(10, 20), dataOf(head.getChildrenInRange(5, 25)));
+        assertTrue(head.getChildrenInRange(40, 20).isEmpty());
+    }
+
+    @Test
+    public void test_setData_moves_child_to_new_position() {
+        head.getChild(10).setData(45);
+        assertEquals(List.of(20, 30, 40, 45, 50), dataOf(head.getChildNodes()));
+    }
+
+    @Test
+    public void test_setParentAs_moves_between_sorted_parents() {
+        Node<Integer> child = head.getChild(30);
+        Node<Integer> other = head.getChild(50);
+        child.setParentAs(other);
+
+        assertEquals(List.of(10, 20, 40, 50), dataOf(head.getChildNodes()));
+        assertEquals(List.of(30), dataOf(other.getChildNodes()));
+    }
+
+    @Test
+    public void test_equal_children_keep_insertion_order() {
+        SortedNode<String> node = new SortedNode<>("", Comparator.comparing(String::length));
+        node.addChild("bb");
+        node.addChild("a");
+        node.addChild("cc");
+
+        assertEquals(List.of("a", "bb", "cc"), dataOf(node.getChildNodes()));
+    }
+
+    @Test
+    public void test_added_subtrees_are_sorted() {
+        Node<Integer> unsorted = new MyNode<>(60);
+        unsorted.addChild(3);
+        unsorted.addChild(1);
+        unsorted.addChild(2);
+
+        Node<Integer> added = head.addChild(unsorted);
+        assertTrue(added instanceof SortedNode);
+        assertEquals(List.of(1, 2, 3), dataOf(added.getChildNodes()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_indexed_add_is_unsupported() {
+        head.addChild(25, 0);
+    }
+
+//helpers
+
+    private static <T> List<T> dataOf(List<Node<T>> nodes) {
+        return nodes.stream().map(Node::getData).collect(Collectors.toList());
+    }
+}
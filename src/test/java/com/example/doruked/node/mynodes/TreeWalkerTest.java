@@ -0,0 +1,91 @@
+package com.example.doruked.node.mynodes;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class TreeWalkerTest {
+
+    private Node<Integer> head;
+    private Node<Integer> left;
+
+    //tree: 0 -> (1 -> (3, 4 -> (6)), 2 -> (5))
+    @Before
+    public void setUp() {
+        head = new MyNode<>(0);
+        left = head.addChild(1);
+        Node<Integer> right = head.addChild(2);
+        left.addChild(3);
+        Node<Integer> inner = left.addChild(4);
+        right.addChild(5);
+        inner.addChild(6);
+    }
+
+    @Test
+    public void test_children_are_visited_before_their_descendants() {
+        assertEquals(List.of(1, 2, 3, 4, 6, 5), walk(head));
+    }
+
+    @Test
+    public void test_walk_does_not_leave_the_subtree() {
+        assertEquals(List.of(3, 4, 6), walk(left));
+    }
+
+    @Test
+    public void test_walk_stops_at_match() {
+        TreeWalker walker = TreeWalker.acquire();
+        try {
+            assertTrue(walker.walk(head, walker.finding(e -> e.getData() == 6)));
+            assertEquals(6, walker.<Integer>found().getData().intValue());
+        } finally {
+            walker.release();
+        }
+    }
+
+    @Test
+    public void test_childless_later_siblings_are_not_revisited() {
+        //previously, iteration revisited index 1 after jumping to a parent's childless sibling
+        Node<Integer> node = new MyNode<>(0);
+        Node<Integer> a = node.addChild(1);
+        node.addChild(2);
+        node.addChild(3);
+        a.addChild(4).addChild(5);
+
+        assertEquals(List.of(1, 2, 3, 4, 5), walk(node));
+        assertNull(node.getNode(e -> e.getData() == 7));
+    }
+
+    @Test
+    public void test_deep_chains_are_walked() {
+        Node<Integer> chain = new MyNode<>(0);
+        Node<Integer> last = chain;
+        for (int i = 1; i < 100_000; i++) {
+            last = last.addChild(i);
+        }
+        assertEquals(99_999, chain.getDescendingNodes().size());
+    }
+
+    @Test
+    public void test_nested_walks_use_different_walkers() {
+        List<Integer> counts = new ArrayList<>();
+        head.forEach(e -> counts.add(e.getDescendingNodes().size()));
+        assertEquals(List.of(6, 3, 1, 0, 1, 0, 0), counts);
+    }
+
+//helpers
+
+    private static List<Integer> walk(Node<Integer> parent) {
+        List<Integer> visited = new ArrayList<>();
+        TreeWalker walker = TreeWalker.acquire();
+        try {
+            walker.walk(parent, walker.consuming(e -> visited.add(e.getData())));
+        } finally {
+            walker.release();
+        }
+        return visited;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.doruked.node.mynodes;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class WideNodeTest {
+
+    @Test
+    public void test_positional_adds_keep_order() {
+        WideNode<Integer> head = new WideNode<>(0);
+        for (int i = 0; i < 1000; i++) {
+            head.addChild(i, i / 2);
+        }
+        List<Node<Integer>> children = head.getChildNodes();
+
+        assertEquals(1000, children.size());
+        assertEquals(999, children.get(499).getData().intValue());
+        assertTrue(children.get(0) instanceof WideNode);
+    }
+
+    @Test
+    public void test_removal_and_pluck_keep_tree_consistent() {
+        WideNode<Integer> head = new WideNode<>(0);
+        Node<Integer> middle = head.addChild(1);
+        head.addChild(2);
+        middle.addChild(3);
+        middle.addChild(4);
+
+        middle.pluckNode();
+        assertEquals(List.of(2, 3, 4), head.getDescendingData());
+        assertEquals(2, head.removeChild(0).getData().intValue());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_children_view_is_unmodifiable() {
+        new WideNode<>(0).getChildNodes().add(null);
+    }
+}
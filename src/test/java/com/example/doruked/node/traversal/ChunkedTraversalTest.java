@@ -0,0 +1,110 @@
+package com.example.doruked.node.traversal;
+
+import com.example.doruked.node.mynodes.MyNode;
+import com.example.doruked.node.mynodes.Node;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class ChunkedTraversalTest {
+
+    private Node<Integer> head;
+    private List<Integer> visited;
+
+    @Before
+    public void setUp() {
+        head = new MyNode<>(0);
+        for (int i = 1; i <= 10; i++) {
+            Node<Integer> child = head.addChild(i);
+            for (int j = 1; j <= 9; j++) {
+                child.addChild(i * 100 + j);
+            }
+        }
+        visited = new ArrayList<>();
+    }
+
+    @Test
+    public void test_step_visits_at_most_max_nodes() throws InterruptedException {
+        ChunkedTraversal<Integer> traversal = ChunkedTraversal.ofTree(head, e -> visited.add(e.getData()));
+
+        assertTrue(traversal.step(7));
+        assertEquals(7, visited.size());
+        assertEquals(7, traversal.getVisited());
+    }
+
+    @Test
+    public void test_steps_resume_and_match_forEach_order() throws InterruptedException {
+        ChunkedTraversal<Integer> traversal = ChunkedTraversal.ofTree(head, e -> visited.add(e.getData()));
+        while (traversal.step(3)) {
+            assertFalse(traversal.isDone());
+        }
+
+        assertTrue(traversal.isDone());
+        assertEquals(head.getAllData(), visited);
+    }
+
+    @Test
+    public void test_expired_time_budget_ends_step_early() throws InterruptedException {
+        ChunkedTraversal<Integer> traversal = ChunkedTraversal.ofTree(head, e -> visited.add(e.getData()));
+
+        assertTrue(traversal.step(Integer.MAX_VALUE, 1));
+        assertEquals(ChunkedTraversal.CHECK_INTERVAL, visited.size());
+    }
+
+    @Test
+    public void test_interrupted_step_throws_and_can_resume() throws InterruptedException {
+        ChunkedTraversal<Integer> traversal = new ChunkedTraversal<>(head, e -> visited.add(e.getData()));
+        Thread.currentThread().interrupt();
+        try {
+            traversal.step(5);
+            fail("expected interruption");
+        } catch (InterruptedException expected) {
+            assertEquals(0, visited.size());
+        }
+
+        assertTrue(traversal.step(5));
+        assertEquals(5, visited.size());
+    }
+
+    @Test
+    public void test_schedule_completes_traversal() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ChunkedTraversal<Integer> traversal = ChunkedTraversal.ofTree(head, e -> visited.add(e.getData()));
+            traversal.schedule(executor, 4, TimeUnit.MILLISECONDS.toNanos(1)).get(5, TimeUnit.SECONDS);
+
+            assertEquals(head.getAllData(), visited);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void test_schedule_relays_action_failure() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ChunkedTraversal<Integer> traversal = ChunkedTraversal.ofTree(head, e -> {
+                throw new IllegalStateException();
+            });
+            traversal.schedule(executor, 4, Long.MAX_VALUE).get(5, TimeUnit.SECONDS);
+            fail("expected failure");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_non_positive_node_budget_throws() throws InterruptedException {
+        new ChunkedTraversal<>(head, e -> {}).step(0);
+    }
+}
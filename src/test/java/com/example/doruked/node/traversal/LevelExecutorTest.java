@@ -0,0 +1,140 @@
+package com.example.doruked.node.traversal;
+
+import com.example.doruked.node.mynodes.MyNode;
+import com.example.doruked.node.mynodes.Node;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class LevelExecutorTest {
+
+    private ExecutorService executor;
+    private LevelExecutor levels;
+    private Node<Integer> head;
+
+    //a complete 3-ary tree of depth 4, where every node contains 1
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        levels = new LevelExecutor(executor, 2);
+        head = new MyNode<>(1);
+        List<Node<Integer>> layer = List.of(head);
+        for (int depth = 1; depth < 4; depth++) {
+            List<Node<Integer>> next = new ArrayList<>();
+            for (Node<Integer> node : layer) {
+                for (int i = 0; i < 3; i++) {
+                    next.add(node.addChild(1));
+                }
+            }
+            layer = next;
+        }
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void test_every_node_is_processed_once() throws Exception {
+        List<Node<Integer>> processed = Collections.synchronizedList(new ArrayList<>());
+        int depths = levels.forEach(head, processed::add);
+
+        assertEquals(4, depths);
+        assertEquals(1 + 3 + 9 + 27, processed.size());
+    }
+
+    @Test
+    public void test_depths_are_processed_in_order() throws Exception {
+        List<Integer> depths = Collections.synchronizedList(new ArrayList<>());
+        levels.forEach(head, e -> depths.add(depthOf(e)));
+
+        for (int i = 1; i < depths.size(); i++) {
+            assertTrue(depths.get(i - 1) <= depths.get(i));
+        }
+    }
+
+    @Test
+    public void test_values_propagate_from_root_to_leaves() throws Exception {
+        levels.apply(head, e -> {
+            Node<Integer> parent = e.getParentNode();
+            if (parent != null) e.setData(parent.getData() + e.getData());
+        });
+
+        for (Node<Integer> node : head.getAllNodes()) {
+            assertEquals(depthOf(node) + 1, node.getData().intValue());
+        }
+    }
+
+    @Test
+    public void test_failure_is_relayed() throws Exception {
+        try {
+            levels.forEach(head, e -> {
+                if (depthOf(e) == 2) throw new IllegalStateException();
+            });
+            fail("expected failure");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+        //reusable after a failure
+        assertEquals(4, levels.forEach(head, e -> {}));
+    }
+
+    @Test(timeout = 10_000)
+    public void test_interrupted_apply_returns_after_running_chunks_stop() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        Thread caller = Thread.currentThread();
+        Thread interrupter = new Thread(() -> {
+            try {
+                started.await();
+            } catch (InterruptedException ignored) {
+                return;
+            }
+            caller.interrupt();
+        });
+        interrupter.start();
+
+        try {
+            levels.forEach(head, e -> {
+                if (depthOf(e) < 2) return;
+                running.incrementAndGet();
+                started.countDown();
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            });
+            fail("expected interruption");
+        } catch (InterruptedException expected) {
+            assertEquals(0, running.get());
+        }
+        interrupter.join();
+        //reusable after an interruption
+        assertEquals(4, levels.forEach(head, e -> {}));
+    }
+
+//helpers
+
+    private static int depthOf(Node<Integer> node) {
+        int depth = 0;
+        while ((node = node.getParentNode()) != null) {
+            depth++;
+        }
+        return depth;
+    }
+}
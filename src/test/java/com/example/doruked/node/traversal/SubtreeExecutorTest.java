@@ -0,0 +1,133 @@
+package com.example.doruked.node.traversal;
+
+import com.example.doruked.node.mynodes.MyNode;
+import com.example.doruked.node.mynodes.Node;
+import com.example.doruked.node.traversal.SubtreeExecutor.Order;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class SubtreeExecutorTest {
+
+    private ForkJoinPool pool;
+    private Node<Integer> head;
+
+    //a complete 3-ary tree of depth 5, where every node contains 1
+    @Before
+    public void setUp() {
+        pool = new ForkJoinPool(4);
+        head = new MyNode<>(1);
+        List<Node<Integer>> layer = List.of(head);
+        for (int depth = 1; depth < 5; depth++) {
+            List<Node<Integer>> next = new ArrayList<>();
+            for (Node<Integer> node : layer) {
+                for (int i = 0; i < 3; i++) {
+                    next.add(node.addChild(1));
+                }
+            }
+            layer = next;
+        }
+    }
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void test_every_node_is_processed_once_in_each_order() throws Exception {
+        for (Order order : Order.values()) {
+            for (int forkDepth : new int[]{0, 2, 10}) {
+                Map<Node<Integer>, Integer> seen = new ConcurrentHashMap<>();
+                new SubtreeExecutor(pool, order, forkDepth).forEach(head, e -> seen.merge(e, 1, Integer::sum));
+
+                assertEquals(1 + 3 + 9 + 27 + 81, seen.size());
+                assertTrue(seen.values().stream().allMatch(e -> e == 1));
+            }
+        }
+    }
+
+    @Test
+    public void test_parents_first_processes_parent_before_children() throws Exception {
+        Map<Node<Integer>, Integer> sequence = process(Order.PARENTS_FIRST);
+        for (Node<Integer> node : head.getDescendingNodes()) {
+            assertTrue(sequence.get(node.getParentNode()) < sequence.get(node));
+        }
+    }
+
+    @Test
+    public void test_children_first_processes_children_before_parent() throws Exception {
+        Map<Node<Integer>, Integer> sequence = process(Order.CHILDREN_FIRST);
+        for (Node<Integer> node : head.getDescendingNodes()) {
+            assertTrue(sequence.get(node.getParentNode()) > sequence.get(node));
+        }
+    }
+
+    @Test
+    public void test_children_first_aggregates_subtree_sizes() throws Exception {
+        new SubtreeExecutor(pool, Order.CHILDREN_FIRST, 2).apply(head, e -> {
+            int sum = 1;
+            for (Node<Integer> child : e.getChildNodes()) {
+                sum += child.getData();
+            }
+            e.setData(sum);
+        });
+        assertEquals(1 + 3 + 9 + 27 + 81, head.getData().intValue());
+    }
+
+    @Test
+    public void test_failure_is_relayed_as_execution_exception() throws Exception {
+        SubtreeExecutor executor = new SubtreeExecutor(pool, Order.UNORDERED, 2);
+        try {
+            executor.forEach(head, e -> {
+                if (e.getChildNodes().isEmpty()) throw new IllegalStateException();
+            });
+            fail("expected failure");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        }
+        //reusable after a failure
+        AtomicInteger count = new AtomicInteger();
+        executor.forEach(head, e -> count.incrementAndGet());
+        assertEquals(121, count.get());
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void test_interruption_is_relayed() throws Exception {
+        new SubtreeExecutor(pool, Order.PARENTS_FIRST, 2).apply(head, e -> {
+            throw new InterruptedException();
+        });
+    }
+
+    @Test
+    public void test_failure_stops_remaining_nodes() throws Exception {
+        AtomicInteger processed = new AtomicInteger();
+        try {
+            new SubtreeExecutor(pool, Order.PARENTS_FIRST, 0).forEach(head, e -> {
+                processed.incrementAndGet();
+                throw new IllegalStateException();
+            });
+        } catch (ExecutionException ignored) {
+        }
+        assertEquals(1, processed.get());
+    }
+
+//helpers
+
+    private Map<Node<Integer>, Integer> process(Order order) throws Exception {
+        AtomicInteger clock = new AtomicInteger();
+        Map<Node<Integer>, Integer> sequence = new ConcurrentHashMap<>();
+        new SubtreeExecutor(pool, order, 2).forEach(head, e -> sequence.put(e, clock.getAndIncrement()));
+        return sequence;
+    }
+}
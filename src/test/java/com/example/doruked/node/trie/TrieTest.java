@@ -0,0 +1,138 @@
+package com.example.doruked.node.trie;
+
+import com.example.doruked.Pair;
+import com.example.doruked.node.mynodes.Node;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class TrieTest {
+
+    private Trie<Integer> trie;
+
+    @Before
+    public void setUp() {
+        trie = new Trie<>();
+        trie.put("car", 1);
+        trie.put("cart", 2);
+        trie.put("care", 3);
+        trie.put("cat", 4);
+        trie.put("dog", 5);
+    }
+
+    @Test
+    public void test_put_and_get() {
+        assertEquals(5, trie.size());
+        assertEquals(2, trie.get("cart").intValue());
+        assertNull(trie.get("ca"));
+        assertNull(trie.get("cars"));
+        assertFalse(trie.containsKey("do"));
+
+        assertEquals(1, trie.put("car", 10).intValue());
+        assertEquals(5, trie.size());
+    }
+
+    @Test
+    public void test_remove_prunes_unused_nodes() {
+        assertEquals(2, trie.remove("cart").intValue());
+        assertNull(trie.getNode("cart"));
+        assertNotNull(trie.getNode("car"));
+
+        assertEquals(5, trie.remove("dog").intValue());
+        assertNull(trie.getNode("d"));
+        assertNull(trie.remove("dog"));
+        assertEquals(3, trie.size());
+    }
+
+    @Test
+    public void test_keys_with_prefix_are_lexicographic() {
+        assertEquals(List.of("car", "care", "cart", "cat"), drain(trie.keysWithPrefix("ca")));
+        assertEquals(List.of("car", "care", "cart", "cat", "dog"), drain(trie.keysWithPrefix("")));
+        assertEquals(List.of(), drain(trie.keysWithPrefix("x")));
+    }
+
+    @Test
+    public void test_prefix_iteration_is_lazy() {
+        Iterator<Pair<String, Integer>> it = trie.entriesWithPrefix("car");
+        Pair<String, Integer> first = it.next();
+
+        assertEquals("car", first.getKey());
+        assertEquals(1, first.getValue().intValue());
+        trie.put("card", 6); //a later key added after iteration began is still found
+        assertEquals(List.of("card", "care", "cart"), drain(new KeyIterator(it)));
+    }
+
+    @Test
+    public void test_longest_prefix_match() {
+        Pair<String, Integer> match = trie.longestPrefixMatch("cartography");
+        assertEquals("cart", match.getKey());
+        assertEquals(2, match.getValue().intValue());
+
+        assertEquals("car", trie.longestPrefixMatch("carb").getKey());
+        assertNull(trie.longestPrefixMatch("ca"));
+        assertNull(trie.longestPrefixMatch("zebra"));
+    }
+
+    @Test
+    public void test_wide_nodes_are_indexed() {
+        Trie<Integer> wide = new Trie<>();
+        for (char c = 'A'; c < 'A' + 40; c++) {
+            wide.put(String.valueOf(c), (int) c);
+        }
+        assertTrue(wide.getHeadNode().isIndexed());
+        assertEquals((int) 'Q', wide.get("Q").intValue());
+
+        for (char c = 'A'; c < 'A' + 35; c++) {
+            wide.remove(String.valueOf(c));
+        }
+        assertFalse(wide.getHeadNode().isIndexed());
+        assertEquals((int) 'f', wide.get("f").intValue());
+    }
+
+    @Test
+    public void test_nodes_share_traversal_api() {
+        List<Integer> values = trie.getNode("ca").getDescendingData().stream()
+                .filter(e -> e != null).sorted().collect(Collectors.toList());
+        assertEquals(List.of(1, 2, 3, 4), values);
+        assertEquals('t', trie.getNode("cat").getKey());
+        assertSame(trie.getNode("ca"), trie.getNode("car").getParentNode());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void test_nodes_cannot_be_modified_directly() {
+        Node<Integer> node = trie.getNode("car");
+        node.addChild(7);
+    }
+
+//helpers
+
+    private static List<String> drain(Iterator<String> it) {
+        List<String> list = new ArrayList<>();
+        it.forEachRemaining(list::add);
+        return list;
+    }
+
+    private static final class KeyIterator implements Iterator<String> {
+        private final Iterator<Pair<String, Integer>> entries;
+
+        private KeyIterator(Iterator<Pair<String, Integer>> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return entries.hasNext();
+        }
+
+        @Override
+        public String next() {
+            return entries.next().getKey();
+        }
+    }
+}